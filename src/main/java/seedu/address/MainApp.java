@@ -12,6 +12,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
@@ -23,8 +24,11 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.SegmentedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.TemplateStorage;
@@ -56,21 +60,77 @@ public class MainApp extends Application {
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
+        FileUtil.setFsyncPolicy(config.getFsyncPolicy(), config.getFsyncIntervalMillis());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(config, userPrefs.getAddressBookFilePath());
         // Initialize template storage in the data directory (same as addressbook.json)
         Path templateDirPath = userPrefs.getAddressBookFilePath().getParent();
         TemplateStorage templateStorage = new TemplateStorageManager(templateDirPath);
         storage = new StorageManager(addressBookStorage, userPrefsStorage, templateStorage);
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, config.getAddressBookSaveDelayMillis());
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns an {@code AddressBookStorage} for the data file at {@code filePath}, in the format set in {@code config}.
+     */
+    private AddressBookStorage initAddressBookStorage(Config config, Path filePath) {
+        switch (config.getAddressBookStorageFormat()) {
+        case BINARY:
+            return convertFromJournal(filePath,
+                    new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(filePath), filePath));
+        case SEGMENTED:
+            return convertFromJournal(filePath, new SegmentedAddressBookStorage(
+                    SegmentedAddressBookStorage.getManifestFilePath(filePath), filePath,
+                    config.getAddressBookSegmentCount()));
+        case JOURNAL:
+            return convertFromOtherFormats(new JournalAddressBookStorage(filePath,
+                    JournalAddressBookStorage.DEFAULT_MIN_COMPACTION_BYTES, config.isAddressBookPrettyPrinted()));
+        default:
+            return convertFromOtherFormats(convertFromJournal(filePath,
+                    new JsonAddressBookStorage(filePath, config.isAddressBookPrettyPrinted())));
+        }
+    }
+
+    /**
+     * Converts the json snapshot at {@code filePath} and the journal beside it, left from using the journal format,
+     * into {@code storage}, if there is such a journal, and returns {@code storage}.
+     */
+    private AddressBookStorage convertFromJournal(Path filePath, AddressBookStorage storage) {
+        try {
+            JournalAddressBookStorage.convertJournal(filePath, storage);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Could not convert the journal of " + filePath + " to " + storage.getAddressBookFilePath()
+                    + ": " + e.getMessage());
+        }
+        return storage;
+    }
+
+    /**
+     * Converts a binary address book or segments left from using those formats into the json file of
+     * {@code storage}, if they are newer, and returns {@code storage}.
+     */
+    private AddressBookStorage convertFromOtherFormats(AddressBookStorage storage) {
+        try {
+            BinaryAddressBookStorage.convertToJsonIfNewer(storage);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Could not convert the binary address book to " + storage.getAddressBookFilePath()
+                    + ": " + e.getMessage());
+        }
+        try {
+            SegmentedAddressBookStorage.convertToJsonIfNewer(storage);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Could not convert the address book segments to " + storage.getAddressBookFilePath()
+                    + ": " + e.getMessage());
+        }
+        return storage;
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -186,10 +246,17 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        try {
+            logic.flushSaves();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        // writes left to be forced later under the interval fsync policy would otherwise be forced by no one
+        FileUtil.forceUnforcedFiles();
     }
 }
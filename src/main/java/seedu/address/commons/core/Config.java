@@ -5,6 +5,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 import java.util.logging.Level;
 
+import seedu.address.commons.util.FileUtil.FsyncPolicy;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -14,9 +15,29 @@ public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
 
+    /**
+     * The ways the address book can be stored on the hard disk.
+     */
+    public enum AddressBookStorageFormat {
+        /** The whole address book is rewritten as one json file on every save */
+        JSON,
+        /** Saves append the changes to a journal kept next to a json snapshot, which is rewritten now and then */
+        JOURNAL,
+        /** The whole address book is rewritten as one compact binary file, kept next to the json file, on every save */
+        BINARY,
+        /** Persons are spread over a number of json segment files, and only the segments that changed are rewritten */
+        SEGMENTED
+    }
+
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private long addressBookSaveDelayMillis = 200;
+    private AddressBookStorageFormat addressBookStorageFormat = AddressBookStorageFormat.JSON;
+    private boolean addressBookPrettyPrinted = true;
+    private int addressBookSegmentCount = 16;
+    private FsyncPolicy fsyncPolicy = FsyncPolicy.ALWAYS;
+    private long fsyncIntervalMillis = 1000;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +55,75 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns how long changes to the address book are collected before they are saved together.
+     */
+    public long getAddressBookSaveDelayMillis() {
+        return addressBookSaveDelayMillis;
+    }
+
+    public void setAddressBookSaveDelayMillis(long addressBookSaveDelayMillis) {
+        this.addressBookSaveDelayMillis = addressBookSaveDelayMillis;
+    }
+
+    /**
+     * Returns the format the address book is stored in.
+     * When switching from {@code JOURNAL} to another format, the changes still in the journal are carried over on
+     * the next start.
+     */
+    public AddressBookStorageFormat getAddressBookStorageFormat() {
+        return addressBookStorageFormat;
+    }
+
+    public void setAddressBookStorageFormat(AddressBookStorageFormat addressBookStorageFormat) {
+        this.addressBookStorageFormat = addressBookStorageFormat;
+    }
+
+    /**
+     * Returns true if the address book json is laid out on indented lines, rather than all on one line.
+     */
+    public boolean isAddressBookPrettyPrinted() {
+        return addressBookPrettyPrinted;
+    }
+
+    public void setAddressBookPrettyPrinted(boolean addressBookPrettyPrinted) {
+        this.addressBookPrettyPrinted = addressBookPrettyPrinted;
+    }
+
+    /**
+     * Returns the number of segment files the address book is spread over, under
+     * {@link AddressBookStorageFormat#SEGMENTED}.
+     */
+    public int getAddressBookSegmentCount() {
+        return addressBookSegmentCount;
+    }
+
+    public void setAddressBookSegmentCount(int addressBookSegmentCount) {
+        this.addressBookSegmentCount = addressBookSegmentCount;
+    }
+
+    /**
+     * Returns when saved data is forced to the disk.
+     */
+    public FsyncPolicy getFsyncPolicy() {
+        return fsyncPolicy;
+    }
+
+    public void setFsyncPolicy(FsyncPolicy fsyncPolicy) {
+        this.fsyncPolicy = fsyncPolicy;
+    }
+
+    /**
+     * Returns the longest time between forcing saved data to the disk, under {@link FsyncPolicy#INTERVAL}.
+     */
+    public long getFsyncIntervalMillis() {
+        return fsyncIntervalMillis;
+    }
+
+    public void setFsyncIntervalMillis(long fsyncIntervalMillis) {
+        this.fsyncIntervalMillis = fsyncIntervalMillis;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +137,19 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && addressBookSaveDelayMillis == otherConfig.addressBookSaveDelayMillis
+                && addressBookStorageFormat == otherConfig.addressBookStorageFormat
+                && addressBookPrettyPrinted == otherConfig.addressBookPrettyPrinted
+                && addressBookSegmentCount == otherConfig.addressBookSegmentCount
+                && fsyncPolicy == otherConfig.fsyncPolicy
+                && fsyncIntervalMillis == otherConfig.fsyncIntervalMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, addressBookSaveDelayMillis, addressBookStorageFormat,
+                addressBookPrettyPrinted, addressBookSegmentCount, fsyncPolicy, fsyncIntervalMillis);
     }
 
     @Override
@@ -60,6 +157,12 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("addressBookSaveDelayMillis", addressBookSaveDelayMillis)
+                .add("addressBookStorageFormat", addressBookStorageFormat)
+                .add("addressBookPrettyPrinted", addressBookPrettyPrinted)
+                .add("addressBookSegmentCount", addressBookSegmentCount)
+                .add("fsyncPolicy", fsyncPolicy)
+                .add("fsyncIntervalMillis", fsyncIntervalMillis)
                 .toString();
     }
 
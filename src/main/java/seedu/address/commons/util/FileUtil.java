@@ -1,18 +1,91 @@
 package seedu.address.commons.util;
 
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
+import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    /**
+     * When the data written to files is forced to the disk, rather than left for the operating system to write out.
+     * Data that has not been forced may be lost if the computer crashes or loses power.
+     */
+    public enum FsyncPolicy {
+        /** Every write is forced to the disk before it returns */
+        ALWAYS,
+        /**
+         * A write is forced to the disk if no write has been forced within the fsync interval. Otherwise it is forced
+         * once the interval has passed, so no write is left unforced for much longer than the interval.
+         */
+        INTERVAL,
+        /** Writes are never forced to the disk */
+        NEVER
+    }
+
+    /**
+     * Writes the content of a file to an {@code OutputStream}.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}, without closing it.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
     private static final String CHARSET = "UTF-8";
 
+    private static volatile FsyncPolicy fsyncPolicy = FsyncPolicy.ALWAYS;
+    private static volatile long fsyncIntervalNanos;
+    private static final AtomicLong lastFsyncNanos = new AtomicLong(System.nanoTime());
+    /** The files written under {@link FsyncPolicy#INTERVAL} that have not been forced yet, guarded by itself */
+    private static final Set<Path> unforcedFiles = new LinkedHashSet<>();
+    private static final ScheduledExecutorService fsyncScheduler = Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+                Thread thread = new Thread(runnable, "fsync");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /**
+     * Sets when the data written by this class is forced to the disk.
+     *
+     * @param fsyncIntervalMillis the fsync interval, used by {@link FsyncPolicy#INTERVAL}.
+     */
+    public static void setFsyncPolicy(FsyncPolicy fsyncPolicy, long fsyncIntervalMillis) {
+        requireNonNull(fsyncPolicy);
+        FileUtil.fsyncPolicy = fsyncPolicy;
+        FileUtil.fsyncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(fsyncIntervalMillis);
+    }
+
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
     }
@@ -75,9 +148,173 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     *
+     * @see #writeToFile(Path, byte[])
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, content.getBytes(CHARSET));
+    }
+
+    /**
+     * Writes given bytes to a file, replacing its contents.
+     * Will create the file if it does not exist yet.
+     *
+     * @see #writeToFile(Path, ContentWriter)
+     */
+    public static void writeToFile(Path file, byte[] content) throws IOException {
+        writeToFile(file, out -> out.write(content));
+    }
+
+    /**
+     * Writes the content written by {@code contentWriter} to a file, replacing its contents.
+     * Will create the file if it does not exist yet.
+     * The content is written to a temporary file next to {@code file}, which is then renamed over {@code file}, so
+     * that a crash while writing leaves the old contents intact. Whether the new contents are forced to the disk
+     * before the rename depends on the fsync policy.
+     */
+    public static void writeToFile(Path file, ContentWriter contentWriter) throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        boolean isForced = shouldFsync();
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE);
+                contentWriter.writeTo(out);
+                out.flush();
+                if (isForced) {
+                    channel.force(false);
+                }
+            }
+            moveAtomically(tempFile, file);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        if (isForced) {
+            forceDirectoryOf(file);
+        } else {
+            deferFsync(file);
+        }
+    }
+
+    /**
+     * Appends given bytes to a file, forcing them to the disk according to the fsync policy.
+     * Will create the file if it does not exist yet.
+     * A crash while appending may leave only some of the bytes at the end of the file.
+     */
+    public static void appendToFile(Path file, byte[] content) throws IOException {
+        boolean isForced = shouldFsync();
+        write(file, content, isForced, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        if (!isForced) {
+            deferFsync(file);
+        }
+    }
+
+    /**
+     * Forces every file written under {@link FsyncPolicy#INTERVAL} that has not been forced yet to the disk now,
+     * such as before the application exits.
+     */
+    public static void forceUnforcedFiles() {
+        List<Path> files;
+        synchronized (unforcedFiles) {
+            files = new ArrayList<>(unforcedFiles);
+            unforcedFiles.clear();
+        }
+        lastFsyncNanos.set(System.nanoTime());
+
+        Set<Path> directories = new LinkedHashSet<>();
+        for (Path file : files) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.force(false);
+            } catch (IOException e) {
+                // the file was deleted since it was written, or cannot be forced; there is nothing left to keep
+            }
+            directories.add(file.getParent());
+        }
+        directories.forEach(FileUtil::forceDirectory);
+    }
+
+    /**
+     * Returns true if any file written under {@link FsyncPolicy#INTERVAL} has not been forced to the disk yet.
+     */
+    static boolean hasUnforcedFiles() {
+        synchronized (unforcedFiles) {
+            return !unforcedFiles.isEmpty();
+        }
+    }
+
+    /**
+     * Records that {@code file} was written without being forced, and schedules it to be forced once the fsync
+     * interval since the last force has passed, if the fsync policy is {@link FsyncPolicy#INTERVAL}.
+     */
+    private static void deferFsync(Path file) {
+        if (fsyncPolicy != FsyncPolicy.INTERVAL) {
+            return;
+        }
+        synchronized (unforcedFiles) {
+            // a force is already scheduled for the files recorded before this one
+            boolean isScheduled = !unforcedFiles.isEmpty();
+            unforcedFiles.add(file.toAbsolutePath());
+            if (!isScheduled) {
+                long delayNanos = lastFsyncNanos.get() + fsyncIntervalNanos - System.nanoTime();
+                fsyncScheduler.schedule(FileUtil::forceUnforcedFiles, Math.max(delayNanos, 0),
+                        TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private static void write(Path file, byte[] content, boolean isForced, OpenOption... options)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(file, options)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (isForced) {
+                channel.force(false);
+            }
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the directory entry of {@code file} to the disk, so that a rename to {@code file} is not lost.
+     * Does nothing where directories cannot be opened, such as on Windows.
+     */
+    private static void forceDirectoryOf(Path file) {
+        forceDirectory(file.toAbsolutePath().getParent());
+    }
+
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // the rename itself succeeded, only its durability is not guaranteed
+        }
+    }
+
+    /**
+     * Returns true if the next write should be forced to the disk under the fsync policy.
+     */
+    private static boolean shouldFsync() {
+        switch (fsyncPolicy) {
+        case ALWAYS:
+            return true;
+        case INTERVAL:
+            long now = System.nanoTime();
+            long last = lastFsyncNanos.get();
+            return now - last >= fsyncIntervalNanos && lastFsyncNanos.compareAndSet(last, now);
+        default:
+            return false;
+        }
     }
 
 }
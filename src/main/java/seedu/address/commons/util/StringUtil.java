@@ -5,13 +5,19 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Helper functions for handling strings.
  */
 public class StringUtil {
 
+    private static final int TRIGRAM_LENGTH = 3;
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -38,6 +44,70 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns true if the {@code sentence} contains the {@code part}, ignoring case.
+     * Unlike lowercasing both strings before calling {@link String#contains}, no new strings are created.
+     *   <br>examples:<pre>
+     *       containsIgnoreCase("123, Clementi Rd", "CLEMENTI") == true
+     *       containsIgnoreCase("123, Clementi Rd", "ti r") == true
+     *       containsIgnoreCase("123, Clementi Rd", "jurong") == false
+     *       </pre>
+     * @param sentence cannot be null
+     * @param part cannot be null
+     */
+    public static boolean containsIgnoreCase(String sentence, String part) {
+        requireNonNull(sentence);
+        requireNonNull(part);
+
+        for (int start = 0; start + part.length() <= sentence.length(); start++) {
+            if (sentence.regionMatches(true, start, part, 0, part.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns {@code text} with its case folded, so that two strings are equal ignoring case, as compared by
+     * {@link String#equalsIgnoreCase}, exactly when their folded forms are equal. Each character is mapped to
+     * upper case and then to lower case, as {@code equalsIgnoreCase} compares them, and the length is kept.
+     *   <br>examples:<pre>
+     *       foldCase("ABc") == "abc"
+     *       foldCase("Ave 6") == "ave 6"
+     *       </pre>
+     * @param text cannot be null
+     */
+    public static String foldCase(String text) {
+        requireNonNull(text);
+
+        StringBuilder folded = new StringBuilder(text.length());
+        text.codePoints().forEach(codePoint ->
+                folded.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint))));
+        return folded.toString();
+    }
+
+    /**
+     * Returns the distinct substrings of length 3 of {@code text} after folding its case with {@link #foldCase},
+     * in order of first occurrence. Case is folded the same way {@link #containsIgnoreCase} compares characters, so
+     * every trigram of {@code part} is a trigram of {@code sentence} whenever
+     * {@code containsIgnoreCase(sentence, part)} is true.
+     *   <br>examples:<pre>
+     *       toTrigramsIgnoreCase("Ave 6") == ["ave", "ve ", "e 6"]
+     *       toTrigramsIgnoreCase("Rd") == []
+     *       </pre>
+     * @param text cannot be null
+     */
+    public static List<String> toTrigramsIgnoreCase(String text) {
+        requireNonNull(text);
+
+        String folded = foldCase(text);
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int start = 0; start + TRIGRAM_LENGTH <= folded.length(); start++) {
+            trigrams.add(folded.substring(start, start + TRIGRAM_LENGTH));
+        }
+        return new ArrayList<>(trigrams);
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
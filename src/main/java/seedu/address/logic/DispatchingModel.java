@@ -0,0 +1,253 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.Model;
+import seedu.address.model.PersonMutator;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.StatusCounts;
+import seedu.address.model.StatusViewState;
+import seedu.address.model.TagCounts;
+import seedu.address.model.TagsViewState;
+import seedu.address.model.TemplateViewState;
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Model} for commands executed off the thread that the model belongs to, such as the JavaFX Application
+ * Thread that the UI observes the model on.
+ * Changes to the model are not made straight away, but collected and then made together on that thread, through
+ * {@code changeExecutor}, when the command next reads the model or {@link #flush()} is called. The command waits
+ * until they are made, so it reads its own changes, and the model is never changed while it is being read.
+ * An exception thrown by a change is thrown by the read or {@code flush()} that made it.
+ * Commands refer to persons by their index in the filtered person list, which the UI may filter again while a
+ * command runs, so {@link #startCommand()} keeps a copy of the list as shown when the command started. The copy is
+ * returned until the command changes the model, so that it reads its own changes from then on.
+ */
+class DispatchingModel implements Model {
+
+    private final Model model;
+    private final Executor changeExecutor;
+    private final List<Consumer<Model>> pendingChanges = new ArrayList<>();
+
+    /** The persons shown when the command running started, or null once it has changed the model */
+    private ObservableList<Person> shownPersons;
+
+    /**
+     * Creates a {@code DispatchingModel} that makes changes to {@code model} through {@code changeExecutor}.
+     */
+    DispatchingModel(Model model, Executor changeExecutor) {
+        this.model = requireNonNull(model);
+        this.changeExecutor = requireNonNull(changeExecutor);
+    }
+
+    /**
+     * Starts a command, keeping a copy of the persons shown in the filtered person list for it to refer to.
+     */
+    void startCommand() {
+        shownPersons = runOnChangeThread(() -> FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(model.getFilteredPersonList())));
+    }
+
+    /**
+     * Makes the changes collected so far, and waits until they are made.
+     */
+    void flush() {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+        List<Consumer<Model>> changes = new ArrayList<>(pendingChanges);
+        pendingChanges.clear();
+        runOnChangeThread(() -> {
+            changes.forEach(change -> change.accept(model));
+            return null;
+        });
+    }
+
+    /**
+     * Runs {@code callable} through the change executor, and waits for its result.
+     */
+    private <T> T runOnChangeThread(Callable<T> callable) {
+        FutureTask<T> task = new FutureTask<>(callable);
+        changeExecutor.execute(task);
+
+        // The task runs even if this thread is interrupted, so wait for it regardless
+        boolean isInterrupted = false;
+        try {
+            while (true) {
+                try {
+                    return task.get();
+                } catch (InterruptedException e) {
+                    isInterrupted = true;
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    } else if (e.getCause() instanceof Error) {
+                        throw (Error) e.getCause();
+                    }
+                    throw new IllegalStateException(e.getCause());
+                }
+            }
+        } finally {
+            if (isInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void change(Consumer<Model> change) {
+        pendingChanges.add(change);
+        shownPersons = null;
+    }
+
+    private Model read() {
+        flush();
+        return model;
+    }
+
+    @Override
+    public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
+        change(model -> model.setUserPrefs(userPrefs));
+    }
+
+    @Override
+    public ReadOnlyUserPrefs getUserPrefs() {
+        return read().getUserPrefs();
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        return read().getGuiSettings();
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        change(model -> model.setGuiSettings(guiSettings));
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return read().getAddressBookFilePath();
+    }
+
+    @Override
+    public void setAddressBookFilePath(Path addressBookFilePath) {
+        change(model -> model.setAddressBookFilePath(addressBookFilePath));
+    }
+
+    @Override
+    public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        change(model -> model.setAddressBook(addressBook));
+    }
+
+    @Override
+    public ReadOnlyAddressBook getAddressBook() {
+        return read().getAddressBook();
+    }
+
+    @Override
+    public long getAddressBookModificationCount() {
+        return read().getAddressBookModificationCount();
+    }
+
+    @Override
+    public boolean hasPerson(Person person) {
+        return read().hasPerson(person);
+    }
+
+    @Override
+    public void deletePerson(Person target) {
+        change(model -> model.deletePerson(target));
+    }
+
+    @Override
+    public void deletePersons(Collection<Person> targets) {
+        change(model -> model.deletePersons(targets));
+    }
+
+    @Override
+    public void addPerson(Person person) {
+        change(model -> model.addPerson(person));
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        change(model -> model.setPerson(target, editedPerson));
+    }
+
+    @Override
+    public void batch(Consumer<PersonMutator> mutations) {
+        requireNonNull(mutations);
+        change(model -> model.batch(mutations));
+    }
+
+    @Override
+    public ObservableList<Person> getFilteredPersonList() {
+        return shownPersons != null ? shownPersons : read().getFilteredPersonList();
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate) {
+        change(model -> model.updateFilteredPersonList(predicate));
+    }
+
+    @Override
+    public ReadOnlyObjectProperty<StatusViewState> getStatusViewStateProperty() {
+        return read().getStatusViewStateProperty();
+    }
+
+    @Override
+    public void setStatusViewState(StatusViewState state) {
+        change(model -> model.setStatusViewState(state));
+    }
+
+    @Override
+    public ReadOnlyObjectProperty<StatusCounts> getStatusCountsProperty() {
+        return read().getStatusCountsProperty();
+    }
+
+    @Override
+    public ReadOnlyObjectProperty<TagCounts> getTagCountsProperty() {
+        return read().getTagCountsProperty();
+    }
+
+    @Override
+    public ReadOnlyObjectProperty<TagsViewState> getTagsViewStateProperty() {
+        return read().getTagsViewStateProperty();
+    }
+
+    @Override
+    public void setTagsViewState(TagsViewState state) {
+        change(model -> model.setTagsViewState(state));
+    }
+
+    @Override
+    public ReadOnlyObjectProperty<TemplateViewState> getTemplateViewStateProperty() {
+        return read().getTemplateViewStateProperty();
+    }
+
+    @Override
+    public TemplateViewState getTemplateViewState() {
+        return read().getTemplateViewState();
+    }
+
+    @Override
+    public void setTemplateViewState(TemplateViewState state) {
+        change(model -> model.setTemplateViewState(state));
+    }
+}
@@ -0,0 +1,265 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.ProgressMonitor;
+import seedu.address.logic.parser.FindCommandParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMatchesKeywordsPredicate;
+
+/**
+ * Filters the person list of a model to the persons a find command would list, while the command is being typed.
+ * The command is parsed and the persons are checked in the background, against a copy of the person list, and only
+ * the result of the latest command text is shown. An evaluation still running when newer text arrives is cancelled.
+ * When the new command narrows down the one shown, only the persons shown are checked again.
+ * All methods must be called on the thread that the model is changed on, and results are shown on that thread
+ * through the publish executor.
+ */
+public class LiveFilter {
+
+    private static final Logger logger = LogsCenter.getLogger(LiveFilter.class);
+    private static final Pattern COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    private static final long IDLE_THREAD_TIMEOUT_SECONDS = 10;
+    /** How many persons are checked between checks for cancellation */
+    private static final int CANCELLATION_CHECK_INTERVAL = 1024;
+
+    private final Model model;
+    private final Executor evaluationExecutor;
+    private Executor publishExecutor = Runnable::run;
+
+    /** Cancels the latest evaluation, or null if its result has been shown or it was stopped */
+    private ProgressMonitor runningMonitor;
+    private List<Person> personsSnapshot;
+    private long snapshotModificationCount;
+    /** The result shown in the model, or null if the model is not showing a result of this filter */
+    private Result shownResult;
+    private int lastCheckedCount;
+
+    /**
+     * Creates a {@code LiveFilter} for {@code model} that evaluates commands on a background thread.
+     */
+    public LiveFilter(Model model) {
+        this(model, createEvaluationThread());
+    }
+
+    /**
+     * Creates a {@code LiveFilter} for {@code model} that evaluates commands through {@code evaluationExecutor}.
+     */
+    LiveFilter(Model model, Executor evaluationExecutor) {
+        this.model = requireNonNull(model);
+        this.evaluationExecutor = requireNonNull(evaluationExecutor);
+    }
+
+    private static Executor createEvaluationThread() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, IDLE_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "live-filter");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Sets the executor through which results are shown in the model, on the thread that the model is changed on.
+     */
+    public void setPublishExecutor(Executor publishExecutor) {
+        this.publishExecutor = requireNonNull(publishExecutor);
+    }
+
+    /**
+     * Starts showing the persons that {@code commandText} would list.
+     * If {@code commandText} is not a find command, the full person list is shown again, if a result was shown.
+     * If it is an invalid find command, such as one still being typed, the result shown is kept.
+     */
+    public void filter(String commandText) {
+        requireNonNull(commandText);
+
+        if (runningMonitor != null) {
+            runningMonitor.cancel();
+        }
+        ProgressMonitor monitor = new ProgressMonitor();
+        runningMonitor = monitor;
+
+        long modificationCount = model.getAddressBookModificationCount();
+        if (personsSnapshot == null || snapshotModificationCount != modificationCount) {
+            personsSnapshot = List.copyOf(model.getAddressBook().getPersonList());
+            snapshotModificationCount = modificationCount;
+        }
+        List<Person> persons = personsSnapshot;
+        Result previousResult = shownResult != null && shownResult.modificationCount == modificationCount
+                ? shownResult
+                : null;
+
+        evaluationExecutor.execute(() -> {
+            if (monitor.isCancelled()) {
+                return;
+            }
+            Optional<Predicate<Person>> predicate;
+            try {
+                predicate = parseFindPredicate(commandText);
+            } catch (ParseException e) {
+                publishExecutor.execute(() -> finish(monitor));
+                return;
+            }
+            if (predicate.isEmpty()) {
+                publishExecutor.execute(() -> showAll(monitor));
+                return;
+            }
+
+            List<Person> candidates = previousResult != null && refines(predicate.get(), previousResult.predicate)
+                    ? previousResult.matches
+                    : persons;
+            Result result = evaluate(predicate.get(), candidates, modificationCount, monitor);
+            if (result != null) {
+                publishExecutor.execute(() -> show(monitor, result, commandText));
+            }
+        });
+    }
+
+    /**
+     * Stops showing results, keeping the person list as it is, and discards any evaluation still running.
+     * A command about to be executed takes over the person list from here.
+     */
+    public void stop() {
+        if (runningMonitor != null) {
+            runningMonitor.cancel();
+            runningMonitor = null;
+        }
+        shownResult = null;
+    }
+
+    /**
+     * Returns the number of persons checked by the latest evaluation that was shown.
+     */
+    int getLastCheckedCount() {
+        return lastCheckedCount;
+    }
+
+    /**
+     * Returns the predicate of the find command in {@code commandText}, or an empty {@code Optional} if
+     * {@code commandText} is not a find command.
+     *
+     * @throws ParseException if {@code commandText} is an invalid find command.
+     */
+    private static Optional<Predicate<Person>> parseFindPredicate(String commandText) throws ParseException {
+        Matcher matcher = COMMAND_FORMAT.matcher(commandText.trim());
+        if (!matcher.matches() || !matcher.group("commandWord").equals(FindCommand.COMMAND_WORD)) {
+            return Optional.empty();
+        }
+        return Optional.of(new FindCommandParser().parse(matcher.group("arguments")).getPredicate());
+    }
+
+    private static boolean refines(Predicate<Person> predicate, Predicate<Person> previousPredicate) {
+        if (predicate instanceof PersonMatchesKeywordsPredicate keywordsPredicate) {
+            return keywordsPredicate.refines(previousPredicate);
+        } else if (predicate instanceof NameContainsKeywordsPredicate namePredicate) {
+            return namePredicate.refines(previousPredicate);
+        }
+        return false;
+    }
+
+    /**
+     * Returns the result of checking {@code candidates} against {@code predicate}, or null if cancelled.
+     */
+    private static Result evaluate(Predicate<Person> predicate, List<Person> candidates, long modificationCount,
+            ProgressMonitor monitor) {
+        List<Person> matches = new ArrayList<>();
+        Set<Person> matchSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < candidates.size(); i++) {
+            if (i % CANCELLATION_CHECK_INTERVAL == 0 && monitor.isCancelled()) {
+                return null;
+            }
+            Person person = candidates.get(i);
+            if (predicate.test(person)) {
+                matches.add(person);
+                matchSet.add(person);
+            }
+        }
+        return new Result(predicate, matches, matchSet, candidates.size(), modificationCount);
+    }
+
+    private boolean isLatest(ProgressMonitor monitor) {
+        return monitor == runningMonitor && !monitor.isCancelled();
+    }
+
+    private void finish(ProgressMonitor monitor) {
+        if (isLatest(monitor)) {
+            runningMonitor = null;
+        }
+    }
+
+    private void show(ProgressMonitor monitor, Result result, String commandText) {
+        if (!isLatest(monitor)) {
+            return;
+        }
+        if (model.getAddressBookModificationCount() != result.modificationCount) {
+            // The persons changed while they were being checked, so check them again
+            filter(commandText);
+            return;
+        }
+
+        runningMonitor = null;
+        shownResult = result;
+        lastCheckedCount = result.checkedCount;
+        // the matches found only hold until the persons change, as added and edited persons are not among them
+        model.updateFilteredPersonList(person -> model.getAddressBookModificationCount() == result.modificationCount
+                ? result.matchSet.contains(person)
+                : result.predicate.test(person));
+        logger.fine("Live filter showing " + result.matches.size() + " persons");
+    }
+
+    private void showAll(ProgressMonitor monitor) {
+        if (!isLatest(monitor)) {
+            return;
+        }
+
+        runningMonitor = null;
+        if (shownResult != null) {
+            shownResult = null;
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        }
+    }
+
+    /**
+     * The persons matching a find command, in the order of the person list, as of a modification count.
+     */
+    private static class Result {
+        private final Predicate<Person> predicate;
+        private final List<Person> matches;
+        private final Set<Person> matchSet;
+        private final int checkedCount;
+        private final long modificationCount;
+
+        Result(Predicate<Person> predicate, List<Person> matches, Set<Person> matchSet, int checkedCount,
+                long modificationCount) {
+            this.predicate = predicate;
+            this.matches = matches;
+            this.matchSet = matchSet;
+            this.checkedCount = checkedCount;
+            this.modificationCount = modificationCount;
+        }
+    }
+}
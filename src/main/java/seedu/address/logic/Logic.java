@@ -2,16 +2,21 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ProgressMonitor;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.StatusCounts;
 import seedu.address.model.StatusViewState;
+import seedu.address.model.TagCounts;
 import seedu.address.model.TagsViewState;
 import seedu.address.model.TemplateViewState;
 import seedu.address.model.person.Person;
@@ -29,6 +34,37 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command, reporting its progress to {@code monitor}, and returns the result.
+     * @param commandText The command as entered by the user.
+     * @param monitor Tracks the progress of the command, and whether it has been cancelled.
+     * @return the result of the command execution.
+     * @throws CommandException If an error occurs during command execution, or the command was cancelled.
+     * @throws ParseException If an error occurs during parsing.
+     */
+    CommandResult execute(String commandText, ProgressMonitor monitor) throws CommandException, ParseException;
+
+    /**
+     * Makes the changes that commands and imports make to the model through {@code changeExecutor}, so that they
+     * can be executed on a thread other than the one the model is observed on.
+     * The changes a command makes are made together, and the command waits until they are made.
+     */
+    void setModelChangeExecutor(Executor changeExecutor);
+
+    /**
+     * Filters the person list in the background to the persons that {@code commandText} would list, if it is a
+     * find command, while it is being typed. Results are shown through the executor set by
+     * {@link #setModelChangeExecutor}, and must be requested on the thread that the model is changed on.
+     *
+     * @see LiveFilter#filter(String)
+     */
+    void liveFilter(String commandText);
+
+    /**
+     * Stops filtering the person list while a command is typed, keeping it as it is, before a command is executed.
+     */
+    void stopLiveFilter();
+
     /**
      * Returns the AddressBook.
      *
@@ -52,6 +88,20 @@ public interface Logic {
      */
     void importJsonString(String jsonString) throws IOException;
 
+    /**
+     * Sets the handler called with an error message when saving the address book in the background fails.
+     * The handler may be called on any thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Saves the changes to the address book that are still waiting to be saved in the background,
+     * and waits until they are saved.
+     *
+     * @throws IOException if there is an error writing to the file
+     */
+    void flushSaves() throws IOException;
+
     /**
      * Returns the user prefs' GUI settings.
      */
@@ -67,6 +117,17 @@ public interface Logic {
      */
     ReadOnlyObjectProperty<StatusViewState> getStatusViewStateProperty();
 
+    /**
+     * Returns the property holding the number of persons with each status, for observing changes.
+     */
+    ReadOnlyObjectProperty<StatusCounts> getStatusCountsProperty();
+
+    /**
+     * Returns the property holding the number of persons with each status that have each of the tags being viewed,
+     * for observing changes.
+     */
+    ReadOnlyObjectProperty<TagCounts> getTagCountsProperty();
+
     /**
      * Returns the tags view state property for observing changes.
      */
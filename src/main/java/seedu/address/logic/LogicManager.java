@@ -1,8 +1,12 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.beans.property.ReadOnlyObjectProperty;
@@ -12,17 +16,21 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ProgressMonitor;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.StatusCounts;
 import seedu.address.model.StatusViewState;
+import seedu.address.model.TagCounts;
 import seedu.address.model.TagsViewState;
 import seedu.address.model.TemplateViewState;
 import seedu.address.model.person.Person;
 import seedu.address.storage.JsonAddressBookUtil;
 import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindAddressBookSaver;
 
 /**
  * The main LogicManager of the app.
@@ -36,38 +44,110 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final WriteBehindAddressBookSaver addressBookSaver;
+    private final LiveFilter liveFilter;
+
+    /** The model commands are executed on, which makes its changes to {@code model} through an executor if set */
+    private Model commandModel;
+
+    /** The modification count of the model's address book when it was last loaded or sent to be saved */
+    private long savedModificationCount;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and
-     * {@code Storage}.
+     * {@code Storage} that saves changes to the address book in the background as soon as possible.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, 0);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and
+     * {@code Storage} that saves changes to the address book in the background,
+     * {@code saveDelayMillis} after the first unsaved change.
+     * The address book in {@code model} is taken to be the one in {@code storage}.
+     */
+    public LogicManager(Model model, Storage storage, long saveDelayMillis) {
         this.model = model;
-        this.storage = storage;
+        this.commandModel = model;
         addressBookParser = new AddressBookParser(storage);
+        addressBookSaver = new WriteBehindAddressBookSaver(storage, saveDelayMillis);
+        addressBookSaver.setFailureHandler(e -> logger.warning(formatSaveError(e)));
+        liveFilter = new LiveFilter(model);
+        savedModificationCount = model.getAddressBookModificationCount();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        return execute(commandText, new ProgressMonitor());
+    }
+
+    @Override
+    public CommandResult execute(String commandText, ProgressMonitor monitor) throws CommandException, ParseException {
+        requireNonNull(monitor);
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
-
+        if (commandModel instanceof DispatchingModel) {
+            ((DispatchingModel) commandModel).startCommand();
+        }
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            commandResult = command.execute(commandModel, monitor);
+        } finally {
+            // Changes made before the command failed are kept, as they are when the model is changed directly
+            flushCommandModel();
         }
+        saveAddressBookIfModified();
 
         return commandResult;
     }
 
+    @Override
+    public void setModelChangeExecutor(Executor changeExecutor) {
+        requireNonNull(changeExecutor);
+        commandModel = new DispatchingModel(model, changeExecutor);
+        liveFilter.setPublishExecutor(changeExecutor);
+    }
+
+    @Override
+    public void liveFilter(String commandText) {
+        liveFilter.filter(commandText);
+    }
+
+    @Override
+    public void stopLiveFilter() {
+        liveFilter.stop();
+    }
+
+    private void flushCommandModel() {
+        if (commandModel instanceof DispatchingModel) {
+            ((DispatchingModel) commandModel).flush();
+        }
+    }
+
+    /**
+     * Sends the model's address book to be saved in the background,
+     * unless it has not changed since it was last loaded or sent to be saved.
+     */
+    private void saveAddressBookIfModified() {
+        long modificationCount = model.getAddressBookModificationCount();
+        if (modificationCount == savedModificationCount) {
+            logger.info("Address book unchanged, skipping save");
+            return;
+        }
+
+        addressBookSaver.save(model.getAddressBook());
+        savedModificationCount = modificationCount;
+    }
+
+    private static String formatSaveError(IOException e) {
+        return e instanceof AccessDeniedException
+                ? String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage())
+                : String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -110,7 +190,8 @@ public class LogicManager implements Logic {
      * @param addressBook The new address book to set in the model.
      */
     private void updateModelAddressBook(ReadOnlyAddressBook addressBook) {
-        model.setAddressBook(addressBook);
+        commandModel.setAddressBook(addressBook);
+        flushCommandModel();
     }
 
     /**
@@ -119,7 +200,25 @@ public class LogicManager implements Logic {
      * @param addressBook The address book to save.
      */
     private void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        storage.saveAddressBook(addressBook);
+        // Goes through the saver so that it is not overwritten by an older save still waiting in the background
+        addressBookSaver.save(addressBook);
+        savedModificationCount = model.getAddressBookModificationCount();
+        addressBookSaver.flush();
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        addressBookSaver.setFailureHandler(e -> {
+            String message = formatSaveError(e);
+            logger.warning(message);
+            saveFailureHandler.accept(message);
+        });
+    }
+
+    @Override
+    public void flushSaves() throws IOException {
+        addressBookSaver.flush();
     }
 
     @Override
@@ -137,6 +236,16 @@ public class LogicManager implements Logic {
         return model.getStatusViewStateProperty();
     }
 
+    @Override
+    public ReadOnlyObjectProperty<StatusCounts> getStatusCountsProperty() {
+        return model.getStatusCountsProperty();
+    }
+
+    @Override
+    public ReadOnlyObjectProperty<TagCounts> getTagCountsProperty() {
+        return model.getTagCountsProperty();
+    }
+
     @Override
     public ReadOnlyObjectProperty<TagsViewState> getTagsViewStateProperty() {
         return model.getTagsViewStateProperty();
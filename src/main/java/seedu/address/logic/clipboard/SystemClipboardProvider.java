@@ -1,25 +1,54 @@
 package seedu.address.logic.clipboard;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
+
+import javafx.application.Platform;
 import javafx.scene.input.Clipboard;
 import javafx.scene.input.ClipboardContent;
 
 /**
- * System clipboard implementation for copying and pasting
+ * System clipboard implementation for copying and pasting.
+ * The clipboard can only be used on the JavaFX Application Thread, so commands executed on other threads
+ * wait for it to be used there.
  */
 public class SystemClipboardProvider implements ClipboardProvider {
     @Override
     public String getString() {
-        Clipboard clipboard = Clipboard.getSystemClipboard();
-        return clipboard.hasString() ? clipboard.getString() : null;
+        return onFxThread(() -> {
+            Clipboard clipboard = Clipboard.getSystemClipboard();
+            return clipboard.hasString() ? clipboard.getString() : null;
+        });
     }
 
     @Override
     public void setString(String value) {
-        ClipboardContent content = new ClipboardContent();
-        // Need to ensure no NullPointerException
-        content.putString(value == null ? "" : value);
-        Clipboard.getSystemClipboard().setContent(content);
+        onFxThread(() -> {
+            ClipboardContent content = new ClipboardContent();
+            // Need to ensure no NullPointerException
+            content.putString(value == null ? "" : value);
+            return Clipboard.getSystemClipboard().setContent(content);
+        });
     }
-}
 
+    private static <T> T onFxThread(Supplier<T> action) {
+        if (Platform.isFxApplicationThread()) {
+            return action.get();
+        }
 
+        FutureTask<T> task = new FutureTask<>(action::get);
+        Platform.runLater(task);
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the clipboard", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
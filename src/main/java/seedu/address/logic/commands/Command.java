@@ -17,4 +17,17 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Executes the command, reporting its progress to {@code monitor} and stopping if it is cancelled.
+     * Commands that may take long override this; the rest ignore {@code monitor}.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @param monitor tracks the progress of the command, and whether it has been cancelled.
+     * @return feedback message of the operation result for display
+     * @throws CommandException If an error occurs during command execution, or the command was cancelled.
+     */
+    public CommandResult execute(Model model, ProgressMonitor monitor) throws CommandException {
+        return execute(model);
+    }
+
 }
@@ -41,6 +41,8 @@ public class DeleteCommand extends Command {
     public static final String MESSAGE_DUPLICATE_INDICES = "Duplicate indices were detected!\n"
             + "Please ensure all indices are unique.";
 
+    private static final int PROGRESS_INTERVAL = 1024;
+
     private final List<Index> targetIndices;
 
     public DeleteCommand(List<Index> targetIndices) {
@@ -56,11 +58,22 @@ public class DeleteCommand extends Command {
      */
     @Override
     public CommandResult execute(Model model) throws CommandException {
+        return execute(model, new ProgressMonitor());
+    }
+
+    /**
+     * Executes the delete command, checking for cancellation while the indices are validated and looked up.
+     * Nothing is deleted if the command is cancelled.
+     */
+    @Override
+    public CommandResult execute(Model model, ProgressMonitor monitor) throws CommandException {
         requireNonNull(model);
+        requireNonNull(monitor);
         List<Person> lastShownList = model.getFilteredPersonList();
 
-        validateAllIndices(lastShownList);
-        List<Person> personsToDelete = collectPersonsToDelete(lastShownList);
+        validateAllIndices(lastShownList, monitor);
+        List<Person> personsToDelete = collectPersonsToDelete(lastShownList, monitor);
+        monitor.checkCancelled();
         deletePersonsFromModel(model, personsToDelete);
         String successMessage = formatSuccessMessage(personsToDelete);
 
@@ -71,15 +84,18 @@ public class DeleteCommand extends Command {
      * Validates that all target indices are within the bounds of the list and are unique.
      *
      * @param personList The list of persons to check against.
-     * @throws CommandException If any index is out of bounds or if there are duplicate indices.
+     * @param monitor Tracks the progress of the command.
+     * @throws CommandException If any index is out of bounds or if there are duplicate indices, or if the command
+     *     was cancelled.
      */
-    private void validateAllIndices(List<Person> personList) throws CommandException {
+    private void validateAllIndices(List<Person> personList, ProgressMonitor monitor) throws CommandException {
         // Check for duplicates first
         Set<Integer> seenIndices = new HashSet<>();
         for (Index index : targetIndices) {
             if (!seenIndices.add(index.getZeroBased())) {
                 throw new CommandException(MESSAGE_DUPLICATE_INDICES);
             }
+            reportProgress(monitor, seenIndices.size());
         }
         // Then check for invalid indices
         List<Integer> invalidIndices = new ArrayList<>();
@@ -102,28 +118,46 @@ public class DeleteCommand extends Command {
      * Indices are processed in descending order to avoid shifting issues.
      *
      * @param personList The current filtered list of persons.
+     * @param monitor Tracks the progress of the command.
      * @return A list of persons to delete.
+     * @throws CommandException If the command was cancelled.
      */
-    private List<Person> collectPersonsToDelete(List<Person> personList) {
+    private List<Person> collectPersonsToDelete(List<Person> personList, ProgressMonitor monitor)
+            throws CommandException {
         List<Index> sortedIndices = new ArrayList<>(targetIndices);
         sortedIndices.sort(Comparator.comparingInt(Index::getZeroBased).reversed());
 
         List<Person> personsToDelete = new ArrayList<>();
         for (Index index : sortedIndices) {
             personsToDelete.add(personList.get(index.getZeroBased()));
+            reportProgress(monitor, targetIndices.size() + personsToDelete.size());
         }
         return personsToDelete;
     }
 
     /**
-     * Deletes all persons in the list from the model.
+     * Reports that {@code stepsDone} of the steps of the command are done, every {@code PROGRESS_INTERVAL} steps,
+     * and checks whether the command has been cancelled.
+     * Each index is validated and then looked up, so the command takes two steps per index.
+     */
+    private void reportProgress(ProgressMonitor monitor, int stepsDone) throws CommandException {
+        if (stepsDone % PROGRESS_INTERVAL == 0) {
+            monitor.setProgress(stepsDone, 2L * targetIndices.size());
+            monitor.checkCancelled();
+        }
+    }
+
+    /**
+     * Deletes all persons in the list from the model in a single operation.
      *
      * @param model The model to delete from.
      * @param personsToDelete The list of persons to delete.
      */
     private void deletePersonsFromModel(Model model, List<Person> personsToDelete) {
-        for (Person person : personsToDelete) {
-            model.deletePerson(person);
+        if (personsToDelete.size() == 1) {
+            model.deletePerson(personsToDelete.get(0));
+        } else {
+            model.deletePersons(personsToDelete);
         }
     }
 
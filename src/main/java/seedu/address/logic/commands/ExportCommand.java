@@ -12,10 +12,14 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.files.FileSystemProvider;
 import seedu.address.logic.files.SystemFileSystemProvider;
 import seedu.address.model.Model;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonAddressBookUtil;
+import seedu.address.storage.SegmentedAddressBookStorage;
 
 /**
  * Exports the contents of the user's address book JSON file to the clipboard.
+ * If the address book is stored in another format beside the JSON file, it is exported as JSON instead.
  */
 public class ExportCommand extends Command {
 
@@ -58,6 +62,10 @@ public class ExportCommand extends Command {
             throw new CommandException(MESSAGE_FILEPATH_NOT_CONFIGURED);
         }
 
+        if (isStoredBesideFile(filePath)) {
+            return exportAddressBook(model);
+        }
+
         if (!fileSystemProvider.exists(filePath)) {
             throw new CommandException(MESSAGE_FILE_MISSING);
         }
@@ -78,4 +86,26 @@ public class ExportCommand extends Command {
             throw new CommandException(MESSAGE_FILE_READ_ERROR, e);
         }
     }
+
+    /**
+     * Returns true if the address book is stored as a journal or a binary snapshot beside the json file at
+     * {@code filePath}, so that the json file alone may be out of date.
+     */
+    private boolean isStoredBesideFile(Path filePath) {
+        return fileSystemProvider.exists(JournalAddressBookStorage.getJournalFilePath(filePath))
+                || fileSystemProvider.exists(BinaryAddressBookStorage.getBinaryFilePath(filePath))
+                || fileSystemProvider.exists(SegmentedAddressBookStorage.getManifestFilePath(filePath));
+    }
+
+    /**
+     * Copies the address book in {@code model}, which is the one last saved, to the clipboard as json.
+     */
+    private CommandResult exportAddressBook(Model model) throws CommandException {
+        try {
+            clipboardProvider.setString(JsonAddressBookUtil.toJsonString(model.getAddressBook()));
+            return new CommandResult(MESSAGE_SUCCESS);
+        } catch (IOException e) {
+            throw new CommandException(MESSAGE_FILE_READ_ERROR, e);
+        }
+    }
 }
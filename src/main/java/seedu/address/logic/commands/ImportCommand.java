@@ -40,7 +40,16 @@ public class ImportCommand extends Command {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
+        return execute(model, new ProgressMonitor());
+    }
+
+    /**
+     * Imports the address book, unless the command is cancelled while the clipboard text is being read.
+     */
+    @Override
+    public CommandResult execute(Model model, ProgressMonitor monitor) throws CommandException {
         requireNonNull(model);
+        requireNonNull(monitor);
 
         String text = clipboardProvider.getString();
         if (text == null || text.trim().isEmpty()) {
@@ -49,6 +58,7 @@ public class ImportCommand extends Command {
 
         try {
             ReadOnlyAddressBook addressBook = JsonAddressBookUtil.readAddressBookFromJsonString(text);
+            monitor.checkCancelled();
             model.setAddressBook(addressBook);
             return new CommandResult(MESSAGE_SUCCESS);
         } catch (DataLoadingException e) {
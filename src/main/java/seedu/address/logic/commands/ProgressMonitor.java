@@ -0,0 +1,54 @@
+package seedu.address.logic.commands;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * Tracks the progress of a command that may take long, and lets it be cancelled.
+ * Cancellation is cooperative: a command checks {@link #checkCancelled()} between steps of its work, and stops,
+ * without changing the model, if it has been cancelled. Progress and cancellation may be read and set from any
+ * thread.
+ */
+public class ProgressMonitor {
+
+    public static final String MESSAGE_CANCELLED = "Command cancelled.";
+
+    /** Progress of a command that has not reported any, or whose amount of work is not known */
+    public static final double UNKNOWN_PROGRESS = -1;
+
+    private volatile boolean isCancelled;
+    private volatile double progress = UNKNOWN_PROGRESS;
+
+    /**
+     * Asks the command to stop as soon as it next checks.
+     */
+    public void cancel() {
+        isCancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return isCancelled;
+    }
+
+    /**
+     * Throws a {@code CommandException} if the command has been cancelled.
+     */
+    public void checkCancelled() throws CommandException {
+        if (isCancelled) {
+            throw new CommandException(MESSAGE_CANCELLED);
+        }
+    }
+
+    /**
+     * Records that {@code done} of {@code total} steps of the command have been done.
+     */
+    public void setProgress(long done, long total) {
+        progress = total <= 0 ? UNKNOWN_PROGRESS : Math.min(1, (double) done / total);
+    }
+
+    /**
+     * Returns the fraction of the command done, from 0 to 1, or {@link #UNKNOWN_PROGRESS}.
+     */
+    public double getProgress() {
+        return progress;
+    }
+}
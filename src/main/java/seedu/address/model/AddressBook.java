@@ -2,20 +2,40 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.InvertedIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndex;
+import seedu.address.model.person.Status;
+import seedu.address.model.person.StatusTagCounter;
 import seedu.address.model.person.UniquePersonList;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * Field indexes over the persons are built the first time they are looked up, and from then on kept in step with
+ * every change to the person list. Address books that are never queried, such as copies being loaded or edited
+ * before they replace another, never build them.
  */
-public class AddressBook implements ReadOnlyAddressBook {
+public class AddressBook implements ReadOnlyAddressBook, PersonIndex, PersonMutator {
 
     private final UniquePersonList persons;
+    /** The field indexes over the persons, or null if they have not been looked up yet */
+    private FieldIndexes indexes;
+    private long indexModificationCount;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,6 +46,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        // Registered before anyone else can observe the list, so the indexes are up to date when others are notified
+        persons.asUnmodifiableObservableList().addListener(this::updateIndexes);
     }
 
     public AddressBook() {}
@@ -71,6 +93,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
+    @Override
     public void addPerson(Person p) {
         persons.add(p);
     }
@@ -80,6 +103,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
      */
+    @Override
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
@@ -90,10 +114,135 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Removes {@code key} from this {@code AddressBook}.
      * {@code key} must exist in the address book.
      */
+    @Override
     public void removePerson(Person key) {
         persons.remove(key);
     }
 
+    /**
+     * Removes all of {@code keys} from this {@code AddressBook} at once.
+     * Every person in {@code keys} must exist in the address book.
+     */
+    public void removePersons(Collection<Person> keys) {
+        persons.removeAll(keys);
+    }
+
+    /**
+     * Makes the changes in {@code mutations} to this address book as a single change of the person list, so that
+     * observers of the list, such as the field indexes, are notified once, of only the persons changed.
+     * If {@code mutations} throws an exception, the address book is left unchanged and the exception is rethrown.
+     */
+    public void batch(Consumer<PersonMutator> mutations) {
+        requireNonNull(mutations);
+        persons.batch(() -> mutations.accept(this));
+    }
+
+    //// index methods
+
+    @Override
+    public long getModificationCount() {
+        return indexModificationCount;
+    }
+
+    @Override
+    public Set<Person> getPersonsWithTag(String tagName) {
+        requireNonNull(tagName);
+        return getIndexes().tagIndex.get(StringUtil.foldCase(tagName));
+    }
+
+    @Override
+    public Set<Person> getPersonsWithStatus(Status status) {
+        requireNonNull(status);
+        return getIndexes().statusIndex.get(status);
+    }
+
+    @Override
+    public Set<Person> getPersonsWithNameWord(String word) {
+        requireNonNull(word);
+        return getIndexes().nameWordIndex.get(StringUtil.foldCase(word.trim()));
+    }
+
+    @Override
+    public Set<Person> getPersonsWithAddressTrigram(String trigram) {
+        requireNonNull(trigram);
+        return getIndexes().addressTrigramIndex.get(trigram);
+    }
+
+    /**
+     * Returns the whitespace-separated words of {@code name}, with their case folded by {@link StringUtil#foldCase}.
+     */
+    private static List<String> toNameWords(String name) {
+        return Arrays.stream(name.split("\\s+"))
+                .map(StringUtil::foldCase)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the number of persons with each status.
+     */
+    public StatusCounts getStatusCounts() {
+        InvertedIndex<Status> statusIndex = getIndexes().statusIndex;
+        Map<Status, Integer> counts = new HashMap<>();
+        for (Status status : statusIndex.keys()) {
+            counts.put(status, statusIndex.count(status));
+        }
+        return new StatusCounts(counts);
+    }
+
+    /**
+     * Returns the number of persons with each status that have each of the tags named in {@code tagNames}.
+     * Takes time proportional to the number of tags named, not to the number of persons or tags in use.
+     */
+    public TagCounts getTagCounts(List<String> tagNames) {
+        requireNonNull(tagNames);
+        FieldIndexes indexes = getIndexes();
+        Map<String, StatusCounts> countsByTag = new LinkedHashMap<>();
+        for (String tagName : tagNames) {
+            String key = StringUtil.foldCase(tagName);
+            Map<Status, Integer> counts = new HashMap<>();
+            for (Status status : Status.values()) {
+                counts.put(status, indexes.statusTagCounter.count(status, key));
+            }
+            countsByTag.put(tagName, new StatusCounts(counts));
+        }
+        return new TagCounts(countsByTag, indexes.tagIndex.keys().size());
+    }
+
+    /**
+     * Returns true if the field indexes have been built.
+     */
+    boolean isIndexed() {
+        return indexes != null;
+    }
+
+    /**
+     * Returns the field indexes over the persons, building them from the person list if this is the first lookup.
+     */
+    private FieldIndexes getIndexes() {
+        if (indexes == null) {
+            indexes = new FieldIndexes();
+            persons.asUnmodifiableObservableList().forEach(indexes::add);
+        }
+        return indexes;
+    }
+
+    /**
+     * Applies the persons removed and added in {@code change} to the field indexes.
+     */
+    private void updateIndexes(ListChangeListener.Change<? extends Person> change) {
+        indexModificationCount++;
+        if (indexes == null) {
+            return;
+        }
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(indexes::remove);
+            change.getAddedSubList().forEach(indexes::add);
+        }
+    }
+
     //// util methods
 
     @Override
@@ -127,4 +276,35 @@ public class AddressBook implements ReadOnlyAddressBook {
     public int hashCode() {
         return persons.hashCode();
     }
+
+    /**
+     * The field indexes over the persons of an address book, and the counts kept alongside them.
+     */
+    private static class FieldIndexes {
+        private final InvertedIndex<String> tagIndex = new InvertedIndex<>(person -> person.getTags().stream()
+                .map(tag -> tag.tagName)
+                .collect(Collectors.toList()));
+        private final InvertedIndex<Status> statusIndex = new InvertedIndex<>(person -> List.of(person.getStatus()));
+        private final InvertedIndex<String> nameWordIndex = new InvertedIndex<>(person ->
+                toNameWords(person.getName().fullName));
+        private final InvertedIndex<String> addressTrigramIndex = new InvertedIndex<>(person ->
+                StringUtil.toTrigramsIgnoreCase(person.getAddress().value));
+        private final StatusTagCounter statusTagCounter = new StatusTagCounter();
+
+        void add(Person person) {
+            tagIndex.add(person);
+            statusIndex.add(person);
+            nameWordIndex.add(person);
+            addressTrigramIndex.add(person);
+            statusTagCounter.add(person);
+        }
+
+        void remove(Person person) {
+            tagIndex.remove(person);
+            statusIndex.remove(person);
+            nameWordIndex.remove(person);
+            addressTrigramIndex.remove(person);
+            statusTagCounter.remove(person);
+        }
+    }
 }
@@ -1,6 +1,8 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ReadOnlyObjectProperty;
@@ -53,6 +55,12 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a number that changes whenever the data in the address book changes,
+     * so that callers can tell whether the data has changed since they last looked.
+     */
+    long getAddressBookModificationCount();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -64,9 +72,16 @@ public interface Model {
      */
     void deletePerson(Person target);
 
+    /**
+     * Deletes all the given persons in a single operation.
+     * Every person in {@code targets} must exist in the address book.
+     */
+    void deletePersons(Collection<Person> targets);
+
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book.
+     * The filter of the filtered person list is kept, so {@code person} is only shown if it passes the filter.
      */
     void addPerson(Person person);
 
@@ -77,6 +92,14 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Applies {@code mutations} to the address book as a single transaction.
+     * The mutations may only add, edit and remove persons, and are made to the address book itself, but observers of
+     * the person list see a single change, of only the persons changed, once all of them are made.
+     * If {@code mutations} throws an exception, the address book is left unchanged and the exception is rethrown.
+     */
+    void batch(Consumer<PersonMutator> mutations);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -96,6 +119,18 @@ public interface Model {
      */
     void setStatusViewState(StatusViewState state);
 
+    /**
+     * Returns the property holding the number of persons with each status, for observing changes.
+     * It is updated whenever the person list changes.
+     */
+    ReadOnlyObjectProperty<StatusCounts> getStatusCountsProperty();
+
+    /**
+     * Returns the property holding the number of persons with each status that have each of the tags being viewed,
+     * for observing changes. It is updated whenever the person list or the tags view state changes.
+     */
+    ReadOnlyObjectProperty<TagCounts> getTagCountsProperty();
+
     /**
      * Returns the tags view state property for observing changes.
      */
@@ -4,17 +4,24 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.ParallelPersonScan;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMatchesKeywordsPredicate;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -26,8 +33,11 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
     private final ObjectProperty<StatusViewState> statusViewState;
+    private final ObjectProperty<StatusCounts> statusCounts;
     private final ObjectProperty<TagsViewState> tagsViewState;
+    private final ObjectProperty<TagCounts> tagCounts;
     private final ObjectProperty<TemplateViewState> templateViewState;
+    private final ParallelPersonScan parallelScan = new ParallelPersonScan();
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -41,7 +51,14 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         statusViewState = new SimpleObjectProperty<>(StatusViewState.ALL_STATUSES);
+        statusCounts = new SimpleObjectProperty<>(this.addressBook.getStatusCounts());
         tagsViewState = new SimpleObjectProperty<>(TagsViewState.ALL_TAGS);
+        tagCounts = new SimpleObjectProperty<>(this.addressBook.getTagCounts(List.of()));
+        // The counts are kept by the address book as the persons change, so reading them does not scan the persons
+        this.addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> {
+            statusCounts.set(this.addressBook.getStatusCounts());
+            updateTagCounts();
+        });
         templateViewState = new SimpleObjectProperty<>(null); // null means not in template view mode
     }
 
@@ -96,6 +113,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookModificationCount() {
+        return addressBook.getModificationCount();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -107,10 +129,15 @@ public class ModelManager implements Model {
         addressBook.removePerson(target);
     }
 
+    @Override
+    public void deletePersons(Collection<Person> targets) {
+        requireNonNull(targets);
+        addressBook.removePersons(targets);
+    }
+
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
@@ -120,6 +147,13 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void batch(Consumer<PersonMutator> mutations) {
+        requireNonNull(mutations);
+
+        addressBook.batch(mutations);
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -134,7 +168,18 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        if (predicate instanceof PersonMatchesKeywordsPredicate keywordsPredicate) {
+            Predicate<Person> indexedPredicate = keywordsPredicate.usingIndex(addressBook);
+            // A query that no index can answer is checked against every person, in parallel on large address books,
+            // and the matches found are then shown in a single update of the filtered list
+            filteredPersons.setPredicate(indexedPredicate == keywordsPredicate
+                    ? parallelScan.findMatches(addressBook.getPersonList(), keywordsPredicate, addressBook)
+                    : indexedPredicate);
+        } else if (predicate instanceof NameContainsKeywordsPredicate namePredicate) {
+            filteredPersons.setPredicate(namePredicate.usingIndex(addressBook));
+        } else {
+            filteredPersons.setPredicate(predicate);
+        }
     }
 
     //=========== Status View State ==========================================================================
@@ -150,6 +195,11 @@ public class ModelManager implements Model {
         statusViewState.set(state);
     }
 
+    @Override
+    public ReadOnlyObjectProperty<StatusCounts> getStatusCountsProperty() {
+        return statusCounts;
+    }
+
     //=========== Tags View State ============================================================================
 
     @Override
@@ -161,6 +211,16 @@ public class ModelManager implements Model {
     public void setTagsViewState(TagsViewState state) {
         requireNonNull(state);
         tagsViewState.set(state);
+        updateTagCounts();
+    }
+
+    @Override
+    public ReadOnlyObjectProperty<TagCounts> getTagCountsProperty() {
+        return tagCounts;
+    }
+
+    private void updateTagCounts() {
+        tagCounts.set(addressBook.getTagCounts(tagsViewState.get().getFilteredTags()));
     }
 
     //=========== Template View State ========================================================================
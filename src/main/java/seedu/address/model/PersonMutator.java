@@ -0,0 +1,29 @@
+package seedu.address.model;
+
+import seedu.address.model.person.Person;
+
+/**
+ * The changes to the persons of an address book that can be made together in a batch.
+ */
+public interface PersonMutator {
+
+    /**
+     * Adds a person to the address book.
+     * The person must not already exist in the address book.
+     */
+    void addPerson(Person person);
+
+    /**
+     * Replaces the given person {@code target} in the address book with {@code editedPerson}.
+     * {@code target} must exist in the address book.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     */
+    void setPerson(Person target, Person editedPerson);
+
+    /**
+     * Removes {@code key} from the address book.
+     * {@code key} must exist in the address book.
+     */
+    void removePerson(Person key);
+
+}
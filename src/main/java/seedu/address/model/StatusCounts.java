@@ -0,0 +1,86 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Status;
+
+/**
+ * An immutable snapshot of how many persons in the address book have each status.
+ */
+public class StatusCounts {
+
+    /** Counts for an address book without any persons */
+    public static final StatusCounts NONE = new StatusCounts(Map.of());
+
+    private final Map<Status, Integer> counts;
+
+    /**
+     * Creates a {@code StatusCounts} from the given counts.
+     * Statuses missing from {@code counts} are taken to have no persons.
+     */
+    public StatusCounts(Map<Status, Integer> counts) {
+        requireNonNull(counts);
+        this.counts = new HashMap<>(counts);
+    }
+
+    /**
+     * Returns the number of persons with {@code status}.
+     */
+    public int getCount(Status status) {
+        return counts.getOrDefault(status, 0);
+    }
+
+    /**
+     * Returns the number of persons across all statuses.
+     */
+    public int getTotal() {
+        return counts.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * Returns the display text for these counts, one status per line.
+     */
+    public String getDisplayText() {
+        return Status.values().stream()
+                .map(status -> String.format("%s: %,d", formatStatusName(status), getCount(status)))
+                .collect(Collectors.joining("\n"));
+    }
+
+    /**
+     * Formats the status name for display by making it lowercase
+     */
+    static String formatStatusName(Status status) {
+        String name = status.name();
+        return name.charAt(0) + name.substring(1).toLowerCase();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof StatusCounts)) {
+            return false;
+        }
+
+        StatusCounts otherCounts = (StatusCounts) other;
+        return Status.values().stream().allMatch(status -> getCount(status) == otherCounts.getCount(status));
+    }
+
+    @Override
+    public int hashCode() {
+        return Status.values().stream().mapToInt(this::getCount).boxed().collect(Collectors.toList()).hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "StatusCounts{" + Status.values().stream()
+                .map(status -> status.name() + "=" + getCount(status))
+                .collect(Collectors.joining(", ")) + "}";
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Status;
+
+/**
+ * An immutable snapshot of how many persons in the address book have each of some tags, by status.
+ * Only the tags being viewed are counted, so taking a snapshot does not depend on the number of tags in use.
+ */
+public class TagCounts {
+
+    /** Counts for an address book without any tags, with no tags viewed */
+    public static final TagCounts NONE = new TagCounts(Map.of(), 0);
+
+    private final Map<String, StatusCounts> countsByTag;
+    private final int tagsInUseCount;
+
+    /**
+     * Creates a {@code TagCounts} from the given counts of each tag, in the order they are to be displayed.
+     *
+     * @param countsByTag The number of persons with each status that have each tag.
+     * @param tagsInUseCount The number of different tags that at least one person has.
+     */
+    public TagCounts(Map<String, StatusCounts> countsByTag, int tagsInUseCount) {
+        requireNonNull(countsByTag);
+        this.countsByTag = new LinkedHashMap<>(countsByTag);
+        this.tagsInUseCount = tagsInUseCount;
+    }
+
+    /**
+     * Returns the number of persons that have a tag named {@code tagName}.
+     * Tags that were not counted are taken to have no persons.
+     */
+    public int getCount(String tagName) {
+        return getCountsByStatus(tagName).getTotal();
+    }
+
+    /**
+     * Returns the number of persons with {@code status} that have a tag named {@code tagName}.
+     */
+    public int getCount(String tagName, Status status) {
+        return getCountsByStatus(tagName).getCount(status);
+    }
+
+    private StatusCounts getCountsByStatus(String tagName) {
+        return countsByTag.getOrDefault(tagName, StatusCounts.NONE);
+    }
+
+    public int getTagsInUseCount() {
+        return tagsInUseCount;
+    }
+
+    /**
+     * Returns the display text for these counts, one tag per line.
+     * If a status is being viewed, the number of persons with each tag that also have that status follows.
+     * If no tags were counted, the number of tags in use is shown instead.
+     */
+    public String getDisplayText(StatusViewState statusViewState) {
+        requireNonNull(statusViewState);
+        if (countsByTag.isEmpty()) {
+            return String.format("Tags in use: %,d", tagsInUseCount);
+        }
+
+        List<String> lines = new ArrayList<>();
+        for (String tagName : countsByTag.keySet()) {
+            String line = String.format("t:%s %,d", tagName, getCount(tagName));
+            if (!statusViewState.isShowingAll()) {
+                Status status = statusViewState.getFilterStatus();
+                line += String.format(" | %s: %,d", StatusCounts.formatStatusName(status), getCount(tagName, status));
+            }
+            lines.add(line);
+        }
+        return String.join("\n", lines);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof TagCounts)) {
+            return false;
+        }
+
+        TagCounts otherCounts = (TagCounts) other;
+        return countsByTag.equals(otherCounts.countsByTag) && tagsInUseCount == otherCounts.tagsInUseCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(countsByTag, tagsInUseCount);
+    }
+
+    @Override
+    public String toString() {
+        return "TagCounts{" + countsByTag.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining(", ")) + ", tagsInUse=" + tagsInUseCount + "}";
+    }
+}
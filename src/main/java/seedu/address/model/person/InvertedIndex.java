@@ -0,0 +1,87 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Maps keys derived from a {@code Person} to the persons that have them.
+ * Postings hold the exact {@code Person} instances that were added and compare them by identity, so the index is
+ * meant to mirror the contents of a single list of persons and be updated whenever that list changes.
+ *
+ * @param <K> the type of key, e.g. a tag name.
+ */
+public class InvertedIndex<K> {
+
+    private final Function<Person, Collection<K>> keysOfPerson;
+    private final Map<K, Set<Person>> postings = new HashMap<>();
+
+    /**
+     * Creates an empty index that files each person under the keys returned by {@code keysOfPerson}.
+     */
+    public InvertedIndex(Function<Person, Collection<K>> keysOfPerson) {
+        requireNonNull(keysOfPerson);
+        this.keysOfPerson = keysOfPerson;
+    }
+
+    /**
+     * Files {@code person} under each of its keys.
+     */
+    public void add(Person person) {
+        for (K key : keysOfPerson.apply(person)) {
+            postings.computeIfAbsent(key, unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the postings of each of its keys.
+     */
+    public void remove(Person person) {
+        for (K key : keysOfPerson.apply(person)) {
+            Set<Person> personsWithKey = postings.get(key);
+            if (personsWithKey == null) {
+                continue;
+            }
+            personsWithKey.remove(person);
+            if (personsWithKey.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons filed under {@code key}.
+     */
+    public Set<Person> get(K key) {
+        Set<Person> personsWithKey = postings.get(key);
+        return personsWithKey == null ? Collections.emptySet() : Collections.unmodifiableSet(personsWithKey);
+    }
+
+    /**
+     * Returns the number of persons filed under {@code key}.
+     */
+    public int count(K key) {
+        Set<Person> personsWithKey = postings.get(key);
+        return personsWithKey == null ? 0 : personsWithKey.size();
+    }
+
+    /**
+     * Returns an unmodifiable view of the keys that have at least one person filed under them.
+     */
+    public Set<K> keys() {
+        return Collections.unmodifiableSet(postings.keySet());
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -22,6 +24,27 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
     }
 
+    /**
+     * Returns a predicate equivalent to this one for the persons indexed by {@code index}.
+     * Each keyword is looked up in the name word postings of {@code index} instead of splitting every person's name.
+     */
+    public Predicate<Person> usingIndex(PersonIndex index) {
+        requireNonNull(index);
+        return person -> keywords.stream()
+                .anyMatch(keyword -> index.getPersonsWithNameWord(keyword).contains(person));
+    }
+
+    /**
+     * Returns true if every person matching this predicate is sure to match {@code other} as well, so that the
+     * persons matching this predicate can be found among those matching {@code other}.
+     * This is so when {@code other} has all the keywords of this predicate.
+     */
+    public boolean refines(Predicate<Person> other) {
+        return other instanceof NameContainsKeywordsPredicate otherPredicate
+                && !keywords.isEmpty()
+                && otherPredicate.keywords.containsAll(keywords);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
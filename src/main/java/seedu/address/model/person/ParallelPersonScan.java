@@ -0,0 +1,147 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+/**
+ * Checks a list of persons against a predicate that no {@code PersonIndex} can answer, in parallel on a fork/join
+ * pool. The persons are split into chunks that are checked by separate tasks, and the matches of every chunk are
+ * merged in order into a result sized to fit them.
+ * Lists too short for each worker of the pool to check at least a chunk are checked sequentially, as splitting them
+ * would cost more than it saves. The predicates given must be safe to call from several threads at once.
+ */
+public class ParallelPersonScan {
+
+    /** The fewest persons checked by a single task, in lists long enough to be checked in parallel */
+    static final int MIN_PERSONS_PER_TASK = 2048;
+    /** How many chunks each worker is given, so that workers that finish early can take over the work of others */
+    private static final int TASKS_PER_WORKER = 4;
+
+    private final ForkJoinPool pool;
+    private final int minPersonsPerTask;
+
+    /**
+     * Creates a {@code ParallelPersonScan} that checks persons on the common fork/join pool.
+     */
+    public ParallelPersonScan() {
+        this(ForkJoinPool.commonPool(), MIN_PERSONS_PER_TASK);
+    }
+
+    /**
+     * Creates a {@code ParallelPersonScan} that checks persons on {@code pool}, at least {@code minPersonsPerTask}
+     * persons per task.
+     */
+    ParallelPersonScan(ForkJoinPool pool, int minPersonsPerTask) {
+        this.pool = requireNonNull(pool);
+        this.minPersonsPerTask = minPersonsPerTask;
+    }
+
+    /**
+     * Returns true if a list of {@code personCount} persons is long enough to be checked in parallel.
+     * The threshold grows with the parallelism of the pool, and a pool of a single worker never checks in parallel.
+     */
+    public boolean isParallel(int personCount) {
+        int parallelism = pool.getParallelism();
+        return parallelism > 1 && personCount >= (long) minPersonsPerTask * parallelism;
+    }
+
+    /**
+     * Returns the persons in {@code persons} that match {@code predicate}, in order.
+     */
+    public List<Person> filter(List<Person> persons, Predicate<Person> predicate) {
+        requireNonNull(persons);
+        requireNonNull(predicate);
+        if (!isParallel(persons.size())) {
+            List<Person> matches = new ArrayList<>();
+            for (Person person : persons) {
+                if (predicate.test(person)) {
+                    matches.add(person);
+                }
+            }
+            return matches;
+        }
+
+        Person[] personArray = persons.toArray(new Person[0]);
+        int chunkSize = Math.max(minPersonsPerTask, personArray.length / (pool.getParallelism() * TASKS_PER_WORKER));
+        int chunkCount = (personArray.length + chunkSize - 1) / chunkSize;
+        List<List<Person>> chunkMatches = new ArrayList<>(Collections.nCopies(chunkCount, null));
+        pool.invoke(new ScanTask(personArray, predicate, chunkSize, chunkMatches, 0, chunkCount));
+
+        int matchCount = chunkMatches.stream().mapToInt(List::size).sum();
+        List<Person> matches = new ArrayList<>(matchCount);
+        chunkMatches.forEach(matches::addAll);
+        return matches;
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} for the persons indexed by {@code index}, whose matches
+     * among {@code persons}, the list indexed, are found now and looked up until the indexed persons next change.
+     * From then on, persons are checked against {@code predicate} itself, so persons added later are still matched.
+     * If {@code persons} is not long enough to be checked in parallel, {@code predicate} is returned as it is.
+     */
+    public Predicate<Person> findMatches(List<Person> persons, Predicate<Person> predicate, PersonIndex index) {
+        requireNonNull(index);
+        if (!isParallel(persons.size())) {
+            return predicate;
+        }
+
+        List<Person> matches = filter(persons, predicate);
+        Set<Person> matchSet = Collections.newSetFromMap(new IdentityHashMap<>(matches.size()));
+        matchSet.addAll(matches);
+        long modificationCount = index.getModificationCount();
+        return person -> index.getModificationCount() == modificationCount
+                ? matchSet.contains(person)
+                : predicate.test(person);
+    }
+
+    /**
+     * Checks the persons in a range of chunks, splitting the range between subtasks if it has more than one chunk.
+     * Each task sets only the matches of its own chunks.
+     */
+    private static class ScanTask extends RecursiveAction {
+        private final Person[] persons;
+        private final Predicate<Person> predicate;
+        private final int chunkSize;
+        private final List<List<Person>> chunkMatches;
+        private final int fromChunk;
+        private final int toChunk;
+
+        ScanTask(Person[] persons, Predicate<Person> predicate, int chunkSize, List<List<Person>> chunkMatches,
+                int fromChunk, int toChunk) {
+            this.persons = persons;
+            this.predicate = predicate;
+            this.chunkSize = chunkSize;
+            this.chunkMatches = chunkMatches;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk > 1) {
+                int middle = (fromChunk + toChunk) >>> 1;
+                invokeAll(new ScanTask(persons, predicate, chunkSize, chunkMatches, fromChunk, middle),
+                        new ScanTask(persons, predicate, chunkSize, chunkMatches, middle, toChunk));
+                return;
+            }
+
+            int from = fromChunk * chunkSize;
+            int to = Math.min(from + chunkSize, persons.length);
+            List<Person> matches = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                if (predicate.test(persons[i])) {
+                    matches.add(persons[i]);
+                }
+            }
+            chunkMatches.set(fromChunk, matches);
+        }
+    }
+}
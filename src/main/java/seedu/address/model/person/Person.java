@@ -4,6 +4,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -26,6 +27,9 @@ public class Person {
     private final Set<Tag> tags = new HashSet<>();
     private final Status status;
 
+    // Derived fields, computed when first needed
+    private List<String> sortedTagNames;
+
     /**
      * Every field must be present and not null.
      */
@@ -63,6 +67,17 @@ public class Person {
         return Collections.unmodifiableSet(tags);
     }
 
+    /**
+     * Returns the names of the tags in alphabetical order, as an immutable list.
+     * The list is computed once per person, since persons are immutable.
+     */
+    public List<String> getSortedTagNames() {
+        if (sortedTagNames == null) {
+            sortedTagNames = tags.stream().map(tag -> tag.tagName).sorted().toList();
+        }
+        return sortedTagNames;
+    }
+
     public Status getStatus() {
         return status;
     }
@@ -0,0 +1,40 @@
+package seedu.address.model.person;
+
+import java.util.Set;
+
+/**
+ * Answers lookups on person fields from indexes kept in step with a list of persons,
+ * so that callers do not have to scan the list.
+ * The returned sets are unmodifiable views containing the exact {@code Person} instances of that list.
+ * They are only guaranteed to be current until the list next changes, so look them up again after each change.
+ */
+public interface PersonIndex {
+
+    /**
+     * Returns a number that changes whenever the indexed persons change,
+     * so that results computed from the other lookups can be reused until then.
+     */
+    long getModificationCount();
+
+    /**
+     * Returns the persons that have a tag named {@code tagName}, ignoring case.
+     */
+    Set<Person> getPersonsWithTag(String tagName);
+
+    /**
+     * Returns the persons whose status is {@code status}.
+     */
+    Set<Person> getPersonsWithStatus(Status status);
+
+    /**
+     * Returns the persons whose name contains {@code word} as a whole word, ignoring case.
+     */
+    Set<Person> getPersonsWithNameWord(String word);
+
+    /**
+     * Returns the persons whose address contains {@code trigram}, a case-folded string of three characters as
+     * produced by {@link seedu.address.commons.util.StringUtil#toTrigramsIgnoreCase}.
+     */
+    Set<Person> getPersonsWithAddressTrigram(String trigram);
+
+}
@@ -1,9 +1,11 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.StringUtil.isNullOrEmpty;
+
 import java.util.List;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -16,9 +18,10 @@ public class PersonMatchesKeywordsPredicate implements Predicate<Person> {
     private final String phoneKeyword;
     private final String emailKeyword;
     private final String addressKeyword;
+    private final PersonQueryPlan plan;
 
     /**
-     * Constructs a predicate that matches a {@code Person}
+     * Constructs a predicate that matches a {@code Person}, compiling the keywords into a {@code PersonQueryPlan}.
      *
      * @param nameKeywords   keywords to check against the person's name
      * @param tagKeywords    keywords to check against the person's tags
@@ -35,30 +38,51 @@ public class PersonMatchesKeywordsPredicate implements Predicate<Person> {
         this.phoneKeyword = phoneKeyword;
         this.emailKeyword = emailKeyword;
         this.addressKeyword = addressKeyword;
+        this.plan = new PersonQueryPlan(nameKeywords, tagKeywords, statusKeyword, phoneKeyword, emailKeyword,
+                addressKeyword);
     }
 
     @Override
     public boolean test(Person person) {
-        boolean matchesName = nameKeywords.isEmpty() || nameKeywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
-
-        boolean matchesTag = tagKeywords.isEmpty() || tagKeywords.stream()
-                .anyMatch(keyword -> person.getTags().stream()
-                        .anyMatch(tag -> StringUtil.containsWordIgnoreCase(tag.tagName, keyword)));
+        return plan.test(person);
+    }
 
-        boolean matchesStatus = statusKeyword == null || statusKeyword.isEmpty()
-                || statusKeyword.equalsIgnoreCase(person.getStatus().name());
+    /**
+     * Returns a predicate equivalent to this one for the persons indexed by {@code index}.
+     * The persons are first narrowed down to those in the postings of the name, tag, status and address trigram
+     * indexes that the keywords select, and only those persons are checked against the remaining filters.
+     */
+    public Predicate<Person> usingIndex(PersonIndex index) {
+        requireNonNull(index);
+        return plan.canUseIndex() ? plan.bindTo(index) : this;
+    }
 
-        boolean matchesPhone = phoneKeyword == null || phoneKeyword.isEmpty()
-                || phoneKeyword.equalsIgnoreCase(person.getPhone().value);
+    /**
+     * Returns true if every person matching this predicate is sure to match {@code other} as well, so that the
+     * persons matching this predicate can be found among those matching {@code other}.
+     * This is so when this predicate has every filter of {@code other}, each at least as strict: the same or fewer
+     * name and tag keywords, the same phone, email and status, and an address containing that of {@code other}.
+     */
+    public boolean refines(Predicate<Person> other) {
+        if (!(other instanceof PersonMatchesKeywordsPredicate otherPredicate)) {
+            return false;
+        }
 
-        boolean matchesEmail = emailKeyword == null || emailKeyword.isEmpty()
-                || emailKeyword.equalsIgnoreCase(person.getEmail().value);
+        return refinesKeywords(nameKeywords, otherPredicate.nameKeywords)
+                && refinesKeywords(tagKeywords, otherPredicate.tagKeywords)
+                && refinesKeyword(statusKeyword, otherPredicate.statusKeyword)
+                && refinesKeyword(phoneKeyword, otherPredicate.phoneKeyword)
+                && refinesKeyword(emailKeyword, otherPredicate.emailKeyword)
+                && (isNullOrEmpty(otherPredicate.addressKeyword)
+                        || addressKeyword != null && addressKeyword.contains(otherPredicate.addressKeyword));
+    }
 
-        boolean matchesAddress = addressKeyword == null || addressKeyword.isEmpty()
-                || person.getAddress().value.toLowerCase().contains(addressKeyword.toLowerCase());
+    private static boolean refinesKeywords(List<String> keywords, List<String> otherKeywords) {
+        return otherKeywords.isEmpty() || !keywords.isEmpty() && otherKeywords.containsAll(keywords);
+    }
 
-        return matchesName && matchesTag && matchesStatus && matchesPhone && matchesEmail && matchesAddress;
+    private static boolean refinesKeyword(String keyword, String otherKeyword) {
+        return isNullOrEmpty(otherKeyword) || otherKeyword.equals(keyword);
     }
 
     /**
@@ -0,0 +1,388 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * The compiled form of the filters of a {@code PersonMatchesKeywordsPredicate}.
+ * Keywords are trimmed, and the status and address trigrams they name are worked out, once when the plan is built.
+ * The filters are checked cheapest and most selective first, and checking stops at the first filter a person fails.
+ * A plan is immutable, so it can be shared freely.
+ */
+class PersonQueryPlan implements Predicate<Person> {
+
+    private final List<FieldFilter> filters;
+
+    /**
+     * Compiles a plan that matches the persons satisfying every non-empty filter given.
+     * The parameters are as described in {@link PersonMatchesKeywordsPredicate}.
+     */
+    PersonQueryPlan(List<String> nameKeywords, List<String> tagKeywords, String statusKeyword,
+            String phoneKeyword, String emailKeyword, String addressKeyword) {
+        requireNonNull(nameKeywords);
+        requireNonNull(tagKeywords);
+
+        List<FieldFilter> filters = new ArrayList<>();
+        if (!isNullOrEmpty(phoneKeyword)) {
+            filters.add(new PhoneFilter(phoneKeyword));
+        }
+        if (!isNullOrEmpty(emailKeyword)) {
+            filters.add(new EmailFilter(emailKeyword));
+        }
+        if (!isNullOrEmpty(statusKeyword)) {
+            filters.add(new StatusFilter(statusKeyword));
+        }
+        if (!nameKeywords.isEmpty()) {
+            filters.add(new NameFilter(nameKeywords));
+        }
+        if (!tagKeywords.isEmpty()) {
+            filters.add(new TagFilter(tagKeywords));
+        }
+        if (!isNullOrEmpty(addressKeyword)) {
+            filters.add(new AddressFilter(addressKeyword));
+        }
+        this.filters = Collections.unmodifiableList(filters);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (FieldFilter filter : filters) {
+            if (!filter.matches(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if any of the filters can narrow down the persons using a {@code PersonIndex}.
+     */
+    boolean canUseIndex() {
+        return filters.stream().anyMatch(FieldFilter::canUseIndex);
+    }
+
+    /**
+     * Returns a predicate equivalent to this plan for the persons indexed by {@code index}.
+     * A person is first looked up in the candidates of the indexed filters, the fewest first, so only persons among
+     * every candidate are checked against the filters that the index cannot decide.
+     */
+    Predicate<Person> bindTo(PersonIndex index) {
+        requireNonNull(index);
+        return canUseIndex() ? new BoundPlan(index) : this;
+    }
+
+    private static boolean isNullOrEmpty(String keyword) {
+        return keyword == null || keyword.isEmpty();
+    }
+
+    /**
+     * Returns true if {@code sentence} has a whitespace-separated word equal to any of {@code words}, ignoring case.
+     * Behaves like {@link StringUtil#containsWordIgnoreCase} for each word, without splitting {@code sentence}.
+     */
+    private static boolean containsAnyWordIgnoreCase(String sentence, List<String> words) {
+        int length = sentence.length();
+        int start = 0;
+        while (start < length) {
+            while (start < length && isWhitespace(sentence.charAt(start))) {
+                start++;
+            }
+            int end = start;
+            while (end < length && !isWhitespace(sentence.charAt(end))) {
+                end++;
+            }
+            for (String word : words) {
+                if (end > start && word.length() == end - start
+                        && sentence.regionMatches(true, start, word, 0, word.length())) {
+                    return true;
+                }
+            }
+            start = end;
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code c} is matched by the regex {@code \s}, which separates the words of a name.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static List<String> trimAll(List<String> keywords) {
+        return keywords.stream().map(String::trim).collect(Collectors.toUnmodifiableList());
+    }
+
+
+    /**
+     * A check on one field of a person.
+     */
+    private interface FieldFilter {
+
+        boolean matches(Person person);
+
+        /**
+         * Returns candidates, taken from {@code index}, such that every person passing this filter is among all of
+         * them. Returns an empty list if {@code index} cannot narrow down the persons for this filter.
+         */
+        default List<Candidates> findCandidates(PersonIndex index) {
+            return List.of();
+        }
+
+        /**
+         * Returns true if {@link #findCandidates} can narrow down the persons.
+         */
+        default boolean canUseIndex() {
+            return false;
+        }
+
+        /**
+         * Returns true if every person in all the sets returned by {@link #findCandidates} passes this filter,
+         * so that persons do not have to be checked against it afterwards.
+         */
+        default boolean isDecidedByIndex() {
+            return false;
+        }
+    }
+
+    private static class PhoneFilter implements FieldFilter {
+        private final String keyword;
+
+        PhoneFilter(String keyword) {
+            this.keyword = keyword;
+        }
+
+        @Override
+        public boolean matches(Person person) {
+            return keyword.equalsIgnoreCase(person.getPhone().value);
+        }
+    }
+
+    private static class EmailFilter implements FieldFilter {
+        private final String keyword;
+
+        EmailFilter(String keyword) {
+            this.keyword = keyword;
+        }
+
+        @Override
+        public boolean matches(Person person) {
+            return keyword.equalsIgnoreCase(person.getEmail().value);
+        }
+    }
+
+    private static class StatusFilter implements FieldFilter {
+        private final String keyword;
+        /** The status named by the keyword, or null if the keyword names no status exactly. */
+        private final Status status;
+
+        StatusFilter(String keyword) {
+            this.keyword = keyword;
+            this.status = parseStatus(keyword);
+        }
+
+        private static Status parseStatus(String keyword) {
+            if (!keyword.equals(keyword.trim())) {
+                return null;
+            }
+            try {
+                return Status.fromStringIgnoreCase(keyword);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public boolean matches(Person person) {
+            return status == null
+                    ? keyword.equalsIgnoreCase(person.getStatus().name())
+                    : status.equals(person.getStatus());
+        }
+
+        @Override
+        public List<Candidates> findCandidates(PersonIndex index) {
+            return status == null ? List.of() : List.of(new Candidates(List.of(index.getPersonsWithStatus(status))));
+        }
+
+        @Override
+        public boolean canUseIndex() {
+            return status != null;
+        }
+
+        @Override
+        public boolean isDecidedByIndex() {
+            return status != null;
+        }
+    }
+
+    private static class NameFilter implements FieldFilter {
+        private final List<String> keywords;
+
+        NameFilter(List<String> keywords) {
+            this.keywords = trimAll(keywords);
+        }
+
+        @Override
+        public boolean matches(Person person) {
+            return containsAnyWordIgnoreCase(person.getName().fullName, keywords);
+        }
+
+        @Override
+        public List<Candidates> findCandidates(PersonIndex index) {
+            return List.of(new Candidates(keywords.stream()
+                    .map(index::getPersonsWithNameWord)
+                    .collect(Collectors.toList())));
+        }
+
+        @Override
+        public boolean canUseIndex() {
+            return true;
+        }
+
+        @Override
+        public boolean isDecidedByIndex() {
+            return true;
+        }
+    }
+
+    private static class TagFilter implements FieldFilter {
+        private final List<String> keywords;
+
+        TagFilter(List<String> keywords) {
+            this.keywords = trimAll(keywords);
+        }
+
+        @Override
+        public boolean matches(Person person) {
+            return person.getTags().stream().anyMatch(tag -> containsAnyWordIgnoreCase(tag.tagName, keywords));
+        }
+
+        @Override
+        public List<Candidates> findCandidates(PersonIndex index) {
+            return List.of(new Candidates(keywords.stream()
+                    .map(index::getPersonsWithTag)
+                    .collect(Collectors.toList())));
+        }
+
+        @Override
+        public boolean canUseIndex() {
+            return true;
+        }
+
+        @Override
+        public boolean isDecidedByIndex() {
+            return true;
+        }
+    }
+
+    private static class AddressFilter implements FieldFilter {
+        private final String keyword;
+        private final List<String> trigrams;
+
+        AddressFilter(String keyword) {
+            this.keyword = keyword;
+            this.trigrams = StringUtil.toTrigramsIgnoreCase(keyword);
+        }
+
+        @Override
+        public boolean matches(Person person) {
+            return StringUtil.containsIgnoreCase(person.getAddress().value, keyword);
+        }
+
+        @Override
+        public List<Candidates> findCandidates(PersonIndex index) {
+            return trigrams.stream()
+                    .map(trigram -> new Candidates(List.of(index.getPersonsWithAddressTrigram(trigram))))
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public boolean canUseIndex() {
+            return !trigrams.isEmpty();
+        }
+    }
+
+    /**
+     * A plan bound to a {@code PersonIndex}. The candidates of the indexed filters are looked up again whenever the
+     * index changes, which takes time proportional to the number of lookups, as the sets looked up are not copied.
+     */
+    private class BoundPlan implements Predicate<Person> {
+        private final PersonIndex index;
+        private final List<FieldFilter> undecidedFilters;
+        private List<Candidates> candidates;
+        private long candidatesModificationCount;
+
+        BoundPlan(PersonIndex index) {
+            this.index = index;
+            this.undecidedFilters = filters.stream()
+                    .filter(filter -> !filter.canUseIndex() || !filter.isDecidedByIndex())
+                    .collect(Collectors.toUnmodifiableList());
+        }
+
+        @Override
+        public boolean test(Person person) {
+            for (Candidates candidate : getCandidates()) {
+                if (!candidate.contains(person)) {
+                    return false;
+                }
+            }
+            for (FieldFilter filter : undecidedFilters) {
+                if (!filter.matches(person)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns the candidates of the indexed filters, the fewest first, so that most persons are turned away by
+         * the first lookup.
+         */
+        private List<Candidates> getCandidates() {
+            if (candidates == null || candidatesModificationCount != index.getModificationCount()) {
+                List<Candidates> allCandidates = new ArrayList<>();
+                filters.forEach(filter -> allCandidates.addAll(filter.findCandidates(index)));
+                allCandidates.sort(Comparator.comparingInt(Candidates::maxSize));
+                candidates = allCandidates;
+                candidatesModificationCount = index.getModificationCount();
+            }
+            return candidates;
+        }
+    }
+
+    /**
+     * The persons in any of some sets taken from a {@code PersonIndex}. The sets are looked up in place rather than
+     * merged, so they are only current until the index next changes.
+     */
+    private static class Candidates {
+        private final List<Set<Person>> sets;
+
+        Candidates(List<Set<Person>> sets) {
+            this.sets = sets;
+        }
+
+        boolean contains(Person person) {
+            for (Set<Person> set : sets) {
+                if (set.contains(person)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns the most persons there can be among the sets.
+         */
+        int maxSize() {
+            return sets.stream().mapToInt(Set::size).sum();
+        }
+    }
+}
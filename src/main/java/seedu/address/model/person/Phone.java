@@ -13,6 +13,7 @@ public class Phone {
             "Phone numbers must contain only numbers of at least 3 digits long. You may include an optional '+' at "
                     + "the start (e.g. 91234567 or +6591234567)";
     public static final String VALIDATION_REGEX = "\\+?\\d{3,}";
+    private static final int MIN_DIGITS = 3;
     public final String value;
 
     /**
@@ -28,9 +29,21 @@ public class Phone {
 
     /**
      * Returns true if a given string is a valid phone number.
+     * This accepts the same strings as {@link #VALIDATION_REGEX}, by scanning the characters rather than running
+     * the regex.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int firstDigit = test.startsWith("+") ? 1 : 0;
+        if (test.length() - firstDigit < MIN_DIGITS) {
+            return false;
+        }
+        for (int i = firstDigit; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
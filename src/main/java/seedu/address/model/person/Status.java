@@ -1,6 +1,6 @@
 package seedu.address.model.person;
 
-import java.util.Locale;
+import java.util.List;
 
 /**
  * Represents the contact status of a person.
@@ -13,6 +13,8 @@ public class Status {
     public static final Status UNCONTACTED = new Status(StatusValue.UNCONTACTED);
     public static final Status UNREACHABLE = new Status(StatusValue.UNREACHABLE);
 
+    private static final List<Status> VALUES = List.of(UNCONTACTED, CONTACTED, REJECTED, ACCEPTED, UNREACHABLE, BUSY);
+
     public static final String MESSAGE_CONSTRAINTS = "Status should be one of the following: "
             + allowedValuesDescription();
     public static final String VALIDATION_REGEX = "^(Uncontacted|Contacted|Rejected|Accepted|Unreachable|Busy)$";
@@ -46,12 +48,7 @@ public class Status {
      * @return true if {@code test} maps to a known status value
      */
     public static boolean isValidStatus(String test) {
-        try {
-            fromStringIgnoreCase(test);
-            return true;
-        } catch (IllegalArgumentException e) {
-            return false;
-        }
+        return test == null || find(test) != null;
     }
 
     @Override
@@ -88,23 +85,41 @@ public class Status {
         if (value == null) {
             return UNCONTACTED;
         }
-        String normalised = value.trim().toUpperCase(Locale.ROOT);
-        switch (normalised) {
-        case "UNCONTACTED":
-            return UNCONTACTED;
-        case "CONTACTED":
-            return CONTACTED;
-        case "REJECTED":
-            return REJECTED;
-        case "ACCEPTED":
-            return ACCEPTED;
-        case "UNREACHABLE":
-            return UNREACHABLE;
-        case "BUSY":
-            return BUSY;
-        default:
+        Status status = find(value);
+        if (status == null) {
             throw new IllegalArgumentException("Invalid status: " + value);
         }
+        return status;
+    }
+
+    /**
+     * Returns the {@code Status} whose name is {@code value}, ignoring case and surrounding whitespace as
+     * {@link String#trim()} does, or null if there is none.
+     * The name is compared in place, so that checking a status does not create any strings.
+     */
+    private static Status find(String value) {
+        int start = 0;
+        int end = value.length();
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        for (Status status : VALUES) {
+            String name = status.value.name();
+            if (name.length() == end - start && value.regionMatches(true, start, name, 0, name.length())) {
+                return status;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns every {@code Status}, in the order they are listed to the user.
+     */
+    public static List<Status> values() {
+        return VALUES;
     }
 
     public static String allowedValuesDescription() {
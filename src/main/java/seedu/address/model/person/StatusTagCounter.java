@@ -0,0 +1,60 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Counts the persons with each pair of status and tag.
+ * Like an {@code InvertedIndex}, it is meant to mirror the contents of a single list of persons and be updated
+ * whenever that list changes. Adding or removing a person takes time proportional to the number of its tags, so
+ * the counts never have to be worked out by scanning the persons.
+ */
+public class StatusTagCounter {
+
+    private final Map<Status, Map<String, Integer>> countsByStatus = new HashMap<>();
+
+    /**
+     * Counts {@code person} under its status and each of its tags.
+     */
+    public void add(Person person) {
+        Map<String, Integer> countsByTag = countsByStatus.computeIfAbsent(person.getStatus(),
+                unused -> new HashMap<>());
+        for (Tag tag : person.getTags()) {
+            countsByTag.merge(tag.tagName, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Stops counting {@code person}, which must have been counted.
+     */
+    public void remove(Person person) {
+        Map<String, Integer> countsByTag = countsByStatus.get(person.getStatus());
+        if (countsByTag == null) {
+            return;
+        }
+        for (Tag tag : person.getTags()) {
+            // A count that drops to zero is removed, so that tags no longer used do not build up
+            countsByTag.merge(tag.tagName, -1, (count, decrement) -> count + decrement == 0 ? null : count + decrement);
+        }
+    }
+
+    /**
+     * Removes every person from the counts.
+     */
+    public void clear() {
+        countsByStatus.clear();
+    }
+
+    /**
+     * Returns the number of persons with {@code status} that have a tag named {@code tagName}.
+     */
+    public int count(Status status, String tagName) {
+        requireNonNull(status);
+        requireNonNull(tagName);
+        return countsByStatus.getOrDefault(status, Map.of()).getOrDefault(tagName, 0);
+    }
+}
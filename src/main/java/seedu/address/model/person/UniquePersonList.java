@@ -3,10 +3,19 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ModifiableObservableListBase;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -18,22 +27,36 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Since the identity of a person is its {@code Phone}, the list keeps a phone-keyed map of positions in the backing
+ * list so that identity checks and lookups of the person to replace or remove do not need to scan the list.
+ * Removing a person shifts every later person down by one; instead of renumbering them eagerly, the positions from
+ * the removal point onwards are marked stale and recomputed the next time one of them is looked up.
+ *
+ * Changes made in a {@link #batch} are made to the list straight away, but listeners are notified of them once, when
+ * the batch ends. Each change records how to undo it, so a batch that fails can be undone.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final BatchableObservableList internalList = new BatchableObservableList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Phone, Integer> positionsByPhone = new HashMap<>();
+
+    // positions of the persons at or after this index may be out of date, and are recomputed as far as needed
+    private int firstStalePosition = Integer.MAX_VALUE;
+    // undoes each change made in the batch running, in the order the changes were made, or null outside a batch
+    private List<Runnable> undoLog;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return positionsByPhone.containsKey(toCheck.getPhone());
     }
 
     /**
@@ -45,7 +68,10 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        int index = internalList.size();
+        positionsByPhone.put(toAdd.getPhone(), index);
         internalList.add(toAdd);
+        recordUndo(() -> removeAt(index));
     }
 
     /**
@@ -56,7 +82,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,7 +91,8 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person replaced = replaceAt(index, editedPerson);
+        recordUndo(() -> replaceAt(index, replaced));
     }
 
     /**
@@ -74,14 +101,50 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        Person removed = removeAt(index);
+        recordUndo(() -> insertAt(index, removed));
+    }
+
+    /**
+     * Removes all the equivalent persons in {@code toRemove} from the list in a single pass.
+     * Every person must exist in the list; if any does not, the list is left unchanged.
+     * Listeners of the list are notified once, of the removal of each person, and the persons left keep their order.
+     */
+    public void removeAll(Collection<Person> toRemove) {
+        requireNonNull(toRemove);
+        toRemove.forEach(Objects::requireNonNull);
+
+        BitSet positionsToRemove = new BitSet(internalList.size());
+        for (Person person : toRemove) {
+            int index = indexOf(person);
+            if (index == -1) {
+                throw new PersonNotFoundException();
+            }
+            positionsToRemove.set(index);
+        }
+        if (positionsToRemove.isEmpty()) {
+            return;
+        }
+
+        List<Person> removed = internalList.removeAll(positionsToRemove);
+        removed.forEach(person -> positionsByPhone.remove(person.getPhone()));
+        firstStalePosition = Math.min(firstStalePosition, positionsToRemove.nextSetBit(0));
+        // inserting the persons in the order of their positions puts each back where it was
+        recordUndo(() -> {
+            Iterator<Person> removedPersons = removed.iterator();
+            positionsToRemove.stream().forEach(index -> insertAt(index, removedPersons.next()));
+        });
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setPersons(replacement.internalList);
     }
 
     /**
@@ -94,7 +157,45 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.setAll(persons);
+        if (undoLog != null) {
+            List<Person> replaced = new ArrayList<>(internalList);
+            recordUndo(() -> replaceAll(replaced));
+        }
+        replaceAll(persons);
+    }
+
+    /**
+     * Runs {@code mutations}, which change this list, as a batch: listeners are notified once, of all the changes
+     * together, after {@code mutations} returns. The changes themselves are made to this list as they happen, so each
+     * costs no more than it would outside a batch.
+     * If {@code mutations} throws an exception, the changes it made are undone before the exception is rethrown, so
+     * the list is left as it was before the batch.
+     */
+    public void batch(Runnable mutations) {
+        requireNonNull(mutations);
+
+        List<Runnable> outerUndoLog = undoLog;
+        List<Runnable> batchUndoLog = new ArrayList<>();
+        undoLog = batchUndoLog;
+        internalList.beginBatch();
+        try {
+            mutations.run();
+        } catch (RuntimeException | Error e) {
+            // undoing a change is not itself a change to be undone
+            undoLog = null;
+            for (int i = batchUndoLog.size() - 1; i >= 0; i--) {
+                batchUndoLog.get(i).run();
+            }
+            batchUndoLog.clear();
+            throw e;
+        } finally {
+            undoLog = outerUndoLog;
+            if (outerUndoLog != null) {
+                // a batch within another is undone along with the outer one
+                outerUndoLog.addAll(batchUndoLog);
+            }
+            internalList.endBatch();
+        }
     }
 
     /**
@@ -134,17 +235,179 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    /**
+     * Returns the position of the person equal to {@code person} in the backing list, or -1 if there is none.
+     */
+    private int indexOf(Person person) {
+        Phone phone = person.getPhone();
+        Integer position = positionsByPhone.get(phone);
+        if (position == null) {
+            return -1;
+        }
+
+        // phones are unique, so a position holding a person with the same phone is up to date
+        if (position >= internalList.size() || !internalList.get(position).getPhone().equals(phone)) {
+            position = recomputeStalePositionsUpTo(phone);
+        }
+
+        return internalList.get(position).equals(person) ? position : -1;
+    }
+
+    private void recordUndo(Runnable undo) {
+        if (undoLog != null) {
+            undoLog.add(undo);
+        }
+    }
+
+    private Person replaceAt(int index, Person person) {
+        Person replaced = internalList.get(index);
+        positionsByPhone.remove(replaced.getPhone());
+        positionsByPhone.put(person.getPhone(), index);
+        internalList.set(index, person);
+        return replaced;
+    }
+
+    private Person removeAt(int index) {
+        Person removed = internalList.get(index);
+        positionsByPhone.remove(removed.getPhone());
+        firstStalePosition = Math.min(firstStalePosition, index);
+        internalList.remove(index);
+        return removed;
+    }
+
+    private void insertAt(int index, Person person) {
+        positionsByPhone.put(person.getPhone(), index);
+        // the persons from the one that was at this index onwards have moved up by one
+        firstStalePosition = Math.min(firstStalePosition, index);
+        internalList.add(index, person);
+    }
+
+    private void replaceAll(List<Person> persons) {
+        positionsByPhone.clear();
+        for (int i = 0; i < persons.size(); i++) {
+            positionsByPhone.put(persons.get(i).getPhone(), i);
+        }
+        firstStalePosition = Integer.MAX_VALUE;
+        internalList.setAll(persons);
+    }
+
+    /**
+     * Renumbers the persons whose positions were shifted by earlier changes, from the first stale position up to the
+     * person with {@code phone}, which must be in the list at or after it, and returns the position of that person.
+     * The persons after it are left to later lookups, so lookups of persons further and further down the list
+     * renumber each stale position once between them.
+     */
+    private int recomputeStalePositionsUpTo(Phone phone) {
+        int position = firstStalePosition;
+        while (!internalList.get(position).getPhone().equals(phone)) {
+            positionsByPhone.put(internalList.get(position).getPhone(), position);
+            position++;
+        }
+        positionsByPhone.put(phone, position);
+        firstStalePosition = position + 1;
+        return position;
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Phone> seenPhones = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenPhones.add(person.getPhone())) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * An observable array list whose changes can be grouped, so that listeners are notified of them once.
+     */
+    private static class BatchableObservableList extends ModifiableObservableListBase<Person> {
+        private final List<Person> persons = new ArrayList<>();
+
+        /**
+         * Starts grouping changes. Batches may be nested; listeners are notified when the outermost one ends.
+         */
+        void beginBatch() {
+            beginChange();
+        }
+
+        void endBatch() {
+            endChange();
+        }
+
+        @Override
+        public boolean setAll(Collection<? extends Person> col) {
+            // the default removes the persons one at a time from the front, which takes quadratic time
+            beginChange();
+            try {
+                if (!persons.isEmpty()) {
+                    nextRemove(0, new ArrayList<>(persons));
+                    persons.clear();
+                }
+                persons.addAll(col);
+                if (!persons.isEmpty()) {
+                    nextAdd(0, persons.size());
+                }
+                modCount++;
+            } finally {
+                endChange();
+            }
+            return true;
+        }
+
+        /**
+         * Removes the persons at {@code positions}, moving the others down in a single pass, and returns the persons
+         * removed in the order they were in.
+         */
+        List<Person> removeAll(BitSet positions) {
+            List<Person> removed = new ArrayList<>(positions.cardinality());
+            beginChange();
+            try {
+                int kept = 0;
+                for (int i = 0; i < persons.size(); i++) {
+                    Person person = persons.get(i);
+                    if (positions.get(i)) {
+                        // after the removals before it, the person is just after the persons kept so far
+                        nextRemove(kept, person);
+                        removed.add(person);
+                    } else {
+                        persons.set(kept++, person);
+                    }
+                }
+                persons.subList(kept, persons.size()).clear();
+                modCount++;
+            } finally {
+                endChange();
+            }
+            return removed;
+        }
+
+        @Override
+        public Person get(int index) {
+            return persons.get(index);
+        }
+
+        @Override
+        public int size() {
+            return persons.size();
+        }
+
+        @Override
+        protected void doAdd(int index, Person element) {
+            persons.add(index, element);
+        }
+
+        @Override
+        protected Person doSet(int index, Person element) {
+            return persons.set(index, element);
+        }
+
+        @Override
+        protected Person doRemove(int index) {
+            return persons.remove(index);
+        }
+    }
 }
@@ -13,6 +13,7 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS =
             "Tags names should be lowercase alphanumeric characters with length <= 50";
     public static final String VALIDATION_REGEX = "[a-z0-9]{1,50}";
+    private static final int MAX_LENGTH = 50;
 
     public final String tagName;
 
@@ -29,9 +30,20 @@ public class Tag {
 
     /**
      * Returns true if a given string is a valid tag name.
+     * This accepts the same strings as {@link #VALIDATION_REGEX}, by scanning the characters rather than running
+     * the regex.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty() || test.length() > MAX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if ((c < 'a' || c > 'z') && (c < '0' || c > '9')) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
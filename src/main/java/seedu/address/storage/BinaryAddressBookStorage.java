@@ -0,0 +1,323 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Status;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot file on the hard disk.
+ * The file holds, in order: a header of a magic number and a format version; a dictionary of the statuses and one of
+ * the tags used; the persons, each as its text fields, the index of its status as a byte and the indices of its tags;
+ * and lastly a CRC32 checksum of everything before it. Text is stored as its length followed by its UTF-8 bytes.
+ * The file is read straight from its channel into a heap buffer, so its bytes are copied once and no mapping of the
+ * file is left open to stop it from being replaced by the next save.
+ * If there is no binary snapshot yet, the json file it replaces is read instead, so that it is converted on the
+ * next save.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+    public static final String MESSAGE_CORRUPT_FILE = "Binary address book file is corrupt: %s";
+
+    private static final int MAGIC_NUMBER = 0x4F534142; // "OSAB"
+    private static final int FORMAT_VERSION = 1;
+    private static final int CHECKSUM_BYTES = Integer.BYTES;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path jsonFilePath;
+
+    /**
+     * Creates a storage for the binary snapshot at {@code filePath}, which replaces the json file at
+     * {@code jsonFilePath}.
+     */
+    public BinaryAddressBookStorage(Path filePath, Path jsonFilePath) {
+        this.filePath = filePath;
+        this.jsonFilePath = jsonFilePath;
+    }
+
+    /**
+     * Returns the path of the binary snapshot that replaces the json file at {@code jsonFilePath}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        String baseName = fileName.endsWith(".json") ? fileName.substring(0, fileName.length() - 5) : fileName;
+        return jsonFilePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    /**
+     * Converts the binary snapshot beside the json file of {@code jsonStorage} to json, if the snapshot was saved
+     * after the json file. This keeps the changes saved while the binary format was in use when switching back.
+     *
+     * @throws DataLoadingException if the binary snapshot could not be read.
+     * @throws IOException if the json file could not be written.
+     */
+    public static void convertToJsonIfNewer(AddressBookStorage jsonStorage) throws DataLoadingException, IOException {
+        Path jsonFilePath = jsonStorage.getAddressBookFilePath();
+        Path binaryFilePath = getBinaryFilePath(jsonFilePath);
+        if (!Files.exists(binaryFilePath)) {
+            return;
+        }
+        if (Files.exists(jsonFilePath)
+                && !Files.getLastModifiedTime(binaryFilePath).toInstant()
+                        .isAfter(Files.getLastModifiedTime(jsonFilePath).toInstant())) {
+            return;
+        }
+
+        logger.info("Converting " + binaryFilePath + " to " + jsonFilePath);
+        Optional<ReadOnlyAddressBook> addressBook = new BinaryAddressBookStorage(binaryFilePath, jsonFilePath)
+                .readAddressBook();
+        if (addressBook.isPresent()) {
+            jsonStorage.saveAddressBook(addressBook.get());
+        }
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            if (filePath.equals(this.filePath) && Files.exists(jsonFilePath)) {
+                logger.info("No binary address book at " + filePath + ", reading " + jsonFilePath + " instead.");
+                return new JsonAddressBookStorage(jsonFilePath).readAddressBook();
+            }
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            return Optional.of(read(readFully(channel)));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Returns a buffer holding the whole content of {@code channel}, read from its start.
+     */
+    private static ByteBuffer readFully(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size > Integer.MAX_VALUE) {
+            throw corrupt("file of " + size + " bytes is too large");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+            // keep reading until the buffer is full or the file ends
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * Reads the address book in {@code buffer}, which holds a whole binary snapshot.
+     *
+     * @throws IOException if the snapshot is corrupt.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(ByteBuffer buffer) throws IOException, IllegalValueException {
+        if (buffer.limit() < 2 * Integer.BYTES + CHECKSUM_BYTES || buffer.getInt(0) != MAGIC_NUMBER) {
+            throw corrupt("not a binary address book");
+        }
+        int checksumIndex = buffer.limit() - CHECKSUM_BYTES;
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.slice(0, checksumIndex));
+        if ((int) checksum.getValue() != buffer.getInt(checksumIndex)) {
+            throw corrupt("checksum does not match");
+        }
+
+        ByteBuffer content = buffer.slice(0, checksumIndex);
+        try {
+            content.position(Integer.BYTES);
+            int version = content.getInt();
+            if (version != FORMAT_VERSION) {
+                throw corrupt("unknown format version " + version);
+            }
+
+            List<Status> statuses = new ArrayList<>();
+            int statusCount = Byte.toUnsignedInt(content.get());
+            for (int i = 0; i < statusCount; i++) {
+                statuses.add(Status.fromStringIgnoreCase(readString(content)));
+            }
+            List<Tag> tags = new ArrayList<>();
+            int tagCount = readCount(content);
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(new Tag(readString(content)));
+            }
+
+            AddressBook addressBook = new AddressBook();
+            int personCount = readCount(content);
+            for (int i = 0; i < personCount; i++) {
+                Person person = readPerson(content, statuses, tags);
+                if (addressBook.hasPerson(person)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                addressBook.addPerson(person);
+            }
+            if (content.hasRemaining()) {
+                throw corrupt("unexpected data after the last person");
+            }
+            return addressBook;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw corrupt("data ends unexpectedly");
+        } catch (IllegalArgumentException e) {
+            // thrown by the model's constructors when a value does not meet their constraints
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    private static Person readPerson(ByteBuffer content, List<Status> statuses, List<Tag> tags) {
+        Name name = new Name(readString(content));
+        Phone phone = new Phone(readString(content));
+        Email email = new Email(readString(content));
+        Address address = new Address(readString(content));
+        Status status = statuses.get(Byte.toUnsignedInt(content.get()));
+        Set<Tag> personTags = new HashSet<>();
+        int tagCount = readCount(content);
+        for (int i = 0; i < tagCount; i++) {
+            personTags.add(tags.get(content.getInt()));
+        }
+        return new Person(name, phone, email, address, personTags, status);
+    }
+
+    private static int readCount(ByteBuffer content) {
+        int count = content.getInt();
+        if (count < 0) {
+            throw new BufferUnderflowException();
+        }
+        return count;
+    }
+
+    private static String readString(ByteBuffer content) {
+        int length = readCount(content);
+        if (length > content.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String string = StandardCharsets.UTF_8.decode(content.slice(content.position(), length)).toString();
+        content.position(content.position() + length);
+        return string;
+    }
+
+    private static IOException corrupt(String reason) {
+        return new IOException(String.format(MESSAGE_CORRUPT_FILE, reason));
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFile(filePath, out -> {
+            CRC32 checksum = new CRC32();
+            DataOutputStream content = new DataOutputStream(new CheckedOutputStream(out, checksum));
+            write(addressBook, content);
+            content.flush();
+            DataOutputStream trailer = new DataOutputStream(out);
+            trailer.writeInt((int) checksum.getValue());
+            trailer.flush();
+        });
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}, without the checksum.
+     */
+    private static void write(ReadOnlyAddressBook addressBook, DataOutputStream out) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        Map<Status, Integer> statusIndices = new LinkedHashMap<>();
+        Map<Tag, Integer> tagIndices = new LinkedHashMap<>();
+        for (Person person : persons) {
+            statusIndices.putIfAbsent(person.getStatus(), statusIndices.size());
+            for (Tag tag : person.getTags()) {
+                tagIndices.putIfAbsent(tag, tagIndices.size());
+            }
+        }
+
+        out.writeInt(MAGIC_NUMBER);
+        out.writeInt(FORMAT_VERSION);
+        out.writeByte(statusIndices.size());
+        for (Status status : statusIndices.keySet()) {
+            writeString(out, status.name());
+        }
+        out.writeInt(tagIndices.size());
+        for (Tag tag : tagIndices.keySet()) {
+            writeString(out, tag.tagName);
+        }
+
+        out.writeInt(persons.size());
+        for (Person person : persons) {
+            writeString(out, person.getName().fullName);
+            writeString(out, person.getPhone().value);
+            writeString(out, person.getEmail().value);
+            writeString(out, person.getAddress().value);
+            out.writeByte(statusIndices.get(person.getStatus()));
+            out.writeInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                out.writeInt(tagIndices.get(tag));
+            }
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,292 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored on the hard disk as a json snapshot file, plus a journal file of the
+ * changes made since the snapshot was written.
+ * A save appends only the persons removed and inserted since the last save to the journal, as one line that is
+ * forced to the disk as set by the fsync policy of {@link FileUtil}. Once the journal is larger than the snapshot,
+ * the next save compacts it, writing a fresh snapshot and starting an empty journal.
+ * The journal starts with the checksum of the snapshot it applies to, so a journal left behind by a compaction that
+ * did not finish is recognised and ignored.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    /** The journal is not compacted before it reaches this size, so that small address books are not rewritten */
+    public static final long DEFAULT_MIN_COMPACTION_BYTES = 64 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path filePath;
+    private final long minCompactionBytes;
+    private final boolean isPrettyPrinted;
+
+    /** The persons in the files at {@code filePath}, or null if they are not known */
+    private List<Person> savedPersons;
+    private long snapshotSize;
+    private long journalSize;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_MIN_COMPACTION_BYTES, true);
+    }
+
+    /**
+     * Creates a storage that compacts the journal once it is larger than both {@code minCompactionBytes} and the
+     * snapshot. The snapshot is laid out on indented lines if {@code isPrettyPrinted} is true, or all on one line
+     * otherwise.
+     */
+    public JournalAddressBookStorage(Path filePath, long minCompactionBytes, boolean isPrettyPrinted) {
+        this.filePath = filePath;
+        this.minCompactionBytes = minCompactionBytes;
+        this.isPrettyPrinted = isPrettyPrinted;
+    }
+
+    /**
+     * Saves the address book in the snapshot at {@code filePath}, with the changes in its journal applied, to
+     * {@code storage}, and then deletes the journal, if there is a journal beside the snapshot.
+     * Other formats read the snapshot alone, so this carries the journaled changes over when switching to them.
+     *
+     * @throws DataLoadingException if the snapshot or the journal could not be read.
+     * @throws IOException if {@code storage} could not be written or the journal could not be deleted.
+     */
+    public static void convertJournal(Path filePath, AddressBookStorage storage)
+            throws DataLoadingException, IOException {
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!Files.exists(journalFilePath)) {
+            return;
+        }
+
+        logger.info("Converting " + filePath + " and its journal to " + storage.getAddressBookFilePath());
+        Optional<ReadOnlyAddressBook> addressBook = new JournalAddressBookStorage(filePath).readAddressBook();
+        if (addressBook.isPresent()) {
+            storage.saveAddressBook(addressBook.get());
+            // the journal is only deleted once its changes are saved in the other format
+            Files.delete(journalFilePath);
+        }
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal of the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            long snapshotSize = Files.size(filePath);
+            List<Person> persons;
+            long snapshotChecksum;
+            try (CheckedInputStream in = new CheckedInputStream(Files.newInputStream(filePath), new CRC32())) {
+                persons = new ArrayList<>(JsonAddressBookReader.read(in).getPersonList());
+                // the checksum covers the whole file, including whatever follows the json
+                in.transferTo(OutputStream.nullOutputStream());
+                snapshotChecksum = in.getChecksum().getValue();
+            }
+            long journalSize = replayJournal(getJournalFilePath(filePath), snapshotChecksum, persons);
+
+            AddressBook addressBook = new AddressBook();
+            for (Person person : persons) {
+                if (addressBook.hasPerson(person)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                addressBook.addPerson(person);
+            }
+
+            if (filePath.equals(this.filePath)) {
+                savedPersons = journalSize < 0 ? null : List.copyOf(addressBook.getPersonList());
+                this.snapshotSize = snapshotSize;
+                this.journalSize = journalSize;
+            }
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Applies the changes in the journal at {@code journalPath} to {@code persons}, if it is the journal of the
+     * snapshot with checksum {@code snapshotChecksum}.
+     * An incomplete last line, left by a save that did not finish, is ignored.
+     *
+     * @return the size of the journal, or -1 if it is missing, does not belong to the snapshot or is incomplete.
+     */
+    private static long replayJournal(Path journalPath, long snapshotChecksum, List<Person> persons)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journalPath)) {
+            return -1;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null || !isHeaderOf(header, snapshotChecksum)) {
+                logger.info("Ignoring journal " + journalPath + " as it does not belong to the current snapshot.");
+                return -1;
+            }
+
+            // Each line is read before the previous one is applied, so that the last line is known to be the last
+            String line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                JsonAdaptedJournalEntry entry;
+                try {
+                    entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+                } catch (IOException e) {
+                    if (nextLine != null) {
+                        throw e;
+                    }
+                    // The journal is compacted on the next save, so that nothing is appended to the incomplete line
+                    logger.warning("Ignoring incomplete last entry in journal " + journalPath);
+                    return -1;
+                }
+                entry.applyTo(persons);
+                line = nextLine;
+            }
+        }
+        return Files.size(journalPath);
+    }
+
+    private static boolean isHeaderOf(String line, long snapshotChecksum) {
+        try {
+            return JsonUtil.fromJsonString(line, JsonJournalHeader.class).snapshotChecksum == snapshotChecksum;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only saves to the file path of this storage are journaled; saves to other paths always write a snapshot.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(addressBook, filePath);
+            return;
+        }
+
+        List<Person> persons = addressBook.getPersonList();
+        Optional<JsonAdaptedJournalEntry> entry = savedPersons == null
+                ? Optional.empty()
+                : JsonAdaptedJournalEntry.between(savedPersons, persons);
+        if (entry.isPresent() && entry.get().isEmpty()) {
+            return;
+        }
+
+        byte[] line = entry.isPresent() ? toLine(entry.get()) : null;
+        if (line == null || journalSize + line.length > Math.max(minCompactionBytes, snapshotSize)) {
+            compact(addressBook);
+            return;
+        }
+
+        // Until the append succeeds, the journal may end in a partly written line
+        savedPersons = null;
+        FileUtil.appendToFile(getJournalFilePath(filePath), line);
+        savedPersons = List.copyOf(persons);
+        journalSize += line.length;
+    }
+
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        logger.info("Compacting journal of " + filePath);
+        savedPersons = null;
+        snapshotSize = writeSnapshot(addressBook, filePath);
+        journalSize = Files.size(getJournalFilePath(filePath));
+        savedPersons = List.copyOf(addressBook.getPersonList());
+    }
+
+    /**
+     * Writes {@code addressBook} as the snapshot at {@code filePath}, and starts an empty journal for it.
+     *
+     * @return the size of the snapshot.
+     */
+    private long writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        CRC32 checksum = new CRC32();
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFile(filePath, out -> {
+            CheckedOutputStream checkedOut = new CheckedOutputStream(out, checksum);
+            JsonAddressBookWriter.write(addressBook, checkedOut, isPrettyPrinted);
+            checkedOut.flush();
+        });
+        FileUtil.writeToFile(getJournalFilePath(filePath), toLine(new JsonJournalHeader(checksum.getValue())));
+        return Files.size(filePath);
+    }
+
+    private static byte[] toLine(Object jsonObject) throws IOException {
+        return (JsonUtil.toCompactJsonString(jsonObject) + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Jackson-friendly first line of a journal, naming the snapshot the journal applies to.
+     */
+    static class JsonJournalHeader {
+        private final long snapshotChecksum;
+
+        @JsonCreator
+        public JsonJournalHeader(@JsonProperty("snapshotChecksum") long snapshotChecksum) {
+            this.snapshotChecksum = snapshotChecksum;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly record of the changes made to the persons of an address book between two saves.
+ * The changes are applied by removing the persons at {@code removedIndices} and then making each insertion,
+ * both in the order given.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_INDEX = "Journal entry refers to index %d of a list of %d persons.";
+    public static final String MESSAGE_MISSING_FIELD = "Journal entry is missing an index or a person.";
+
+    private final List<Integer> removedIndices = new ArrayList<>();
+    private final List<JsonAdaptedInsertion> insertions = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given changes.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("removedIndices") List<Integer> removedIndices,
+            @JsonProperty("insertions") List<JsonAdaptedInsertion> insertions) {
+        if (removedIndices != null) {
+            this.removedIndices.addAll(removedIndices);
+        }
+        if (insertions != null) {
+            this.insertions.addAll(insertions);
+        }
+    }
+
+    /**
+     * Returns the entry that turns {@code oldPersons} into {@code newPersons}, or an empty {@code Optional} if the
+     * persons in both lists are not in the same order in each.
+     * Persons are compared by identity, so an edited person is recorded as removed and inserted again.
+     */
+    public static Optional<JsonAdaptedJournalEntry> between(List<Person> oldPersons, List<Person> newPersons) {
+        Set<Person> oldSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        oldSet.addAll(oldPersons);
+        Set<Person> newSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        newSet.addAll(newPersons);
+
+        List<Integer> removedIndices = new ArrayList<>();
+        List<Person> keptPersons = new ArrayList<>();
+        for (int i = oldPersons.size() - 1; i >= 0; i--) {
+            if (newSet.contains(oldPersons.get(i))) {
+                keptPersons.add(oldPersons.get(i));
+            } else {
+                removedIndices.add(i);
+            }
+        }
+        Collections.reverse(keptPersons);
+
+        List<JsonAdaptedInsertion> insertions = new ArrayList<>();
+        int keptIndex = 0;
+        for (int i = 0; i < newPersons.size(); i++) {
+            Person person = newPersons.get(i);
+            if (!oldSet.contains(person)) {
+                insertions.add(new JsonAdaptedInsertion(i, new JsonAdaptedPerson(person)));
+            } else if (keptIndex < keptPersons.size() && keptPersons.get(keptIndex) == person) {
+                keptIndex++;
+            } else {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(new JsonAdaptedJournalEntry(removedIndices, insertions));
+    }
+
+    /**
+     * Returns true if this entry makes no changes.
+     */
+    public boolean isEmpty() {
+        return removedIndices.isEmpty() && insertions.isEmpty();
+    }
+
+    /**
+     * Applies the changes in this entry to {@code persons}.
+     *
+     * @throws IllegalValueException if an index is out of range or a person is invalid.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        for (Integer index : removedIndices) {
+            if (index == null) {
+                throw new IllegalValueException(MESSAGE_MISSING_FIELD);
+            }
+            checkIndex(index, persons.size() - 1);
+            persons.remove((int) index);
+        }
+        for (JsonAdaptedInsertion insertion : insertions) {
+            if (insertion == null) {
+                throw new IllegalValueException(MESSAGE_MISSING_FIELD);
+            }
+            insertion.applyTo(persons);
+        }
+    }
+
+    private static void checkIndex(int index, int maxIndex) throws IllegalValueException {
+        if (index < 0 || index > maxIndex) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_INDEX, index, maxIndex + 1));
+        }
+    }
+
+    /**
+     * Jackson-friendly record of a person inserted at an index.
+     */
+    static class JsonAdaptedInsertion {
+        private final Integer index;
+        private final JsonAdaptedPerson person;
+
+        /**
+         * Constructs a {@code JsonAdaptedInsertion} of {@code person} at {@code index}.
+         */
+        @JsonCreator
+        public JsonAdaptedInsertion(@JsonProperty("index") Integer index,
+                @JsonProperty("person") JsonAdaptedPerson person) {
+            this.index = index;
+            this.person = person;
+        }
+
+        private void applyTo(List<Person> persons) throws IllegalValueException {
+            if (index == null || person == null) {
+                throw new IllegalValueException(MESSAGE_MISSING_FIELD);
+            }
+            checkIndex(index, persons.size());
+            persons.add(index, person.toModelType());
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package seedu.address.storage;
+
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.RecursiveAction;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Converts {@code JsonAdaptedPerson}s into an {@code AddressBook}, in batches.
+ * The persons in a batch are parsed and validated in parallel on the common fork/join pool, and then added to the
+ * address book in order. A person that is invalid or a duplicate does not stop the conversion, so that the problems
+ * with every person are reported together, each with the position of the person in the data.
+ */
+class JsonAdaptedPersonConverter {
+
+    public static final String MESSAGE_INVALID_PERSON = "Person %d: %s";
+    public static final String MESSAGE_MORE_INVALID_PERSONS = "...and %d more invalid person(s).";
+
+    /** The most problems listed in the message of the exception thrown */
+    static final int MAX_REPORTED_ERRORS = 10;
+    /** Ranges of persons no longer than this are converted by a single task */
+    private static final int MAX_PERSONS_PER_TASK = 256;
+
+    private final AddressBook addressBook = new AddressBook();
+    /** The problems at the lowest positions, no more than are reported */
+    private final SortedMap<Integer, String> errors = new TreeMap<>();
+    private int errorCount;
+    private int convertedCount;
+
+    /**
+     * Returns an address book of {@code adaptedPersons}, in order.
+     *
+     * @throws IllegalValueException if any of the persons are invalid or duplicates.
+     */
+    public static AddressBook toAddressBook(List<JsonAdaptedPerson> adaptedPersons) throws IllegalValueException {
+        JsonAdaptedPersonConverter converter = new JsonAdaptedPersonConverter();
+        converter.convert(adaptedPersons);
+        return converter.getAddressBook();
+    }
+
+    /**
+     * Converts {@code adaptedPersons} and adds the valid ones to the address book after the persons converted
+     * before them.
+     */
+    public void convert(List<JsonAdaptedPerson> adaptedPersons) {
+        Person[] persons = new Person[adaptedPersons.size()];
+        String[] personErrors = new String[adaptedPersons.size()];
+        new ConversionTask(adaptedPersons, persons, personErrors, 0, adaptedPersons.size()).invoke();
+
+        // UniquePersonList keeps its persons hashed by phone, so checking for duplicates while adding is cheap
+        for (int i = 0; i < persons.length; i++) {
+            int position = convertedCount + i + 1;
+            if (personErrors[i] != null) {
+                addError(position, personErrors[i]);
+            } else if (addressBook.hasPerson(persons[i])) {
+                addError(position, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            } else {
+                addressBook.addPerson(persons[i]);
+            }
+        }
+        convertedCount += persons.length;
+    }
+
+    /**
+     * Counts the problem {@code error} with the person at {@code position}, and keeps it if it is among the
+     * {@link #MAX_REPORTED_ERRORS} problems at the lowest positions.
+     */
+    private void addError(int position, String error) {
+        errorCount++;
+        errors.put(position, error);
+        if (errors.size() > MAX_REPORTED_ERRORS) {
+            errors.remove(errors.lastKey());
+        }
+    }
+
+    /**
+     * Returns the address book of all the persons converted.
+     *
+     * @throws IllegalValueException if any of the persons converted are invalid or duplicates.
+     */
+    public AddressBook getAddressBook() throws IllegalValueException {
+        if (errorCount > 0) {
+            throw new IllegalValueException(describeErrors());
+        }
+        return addressBook;
+    }
+
+    private String describeErrors() {
+        StringBuilder description = new StringBuilder();
+        errors.forEach((position, error) -> {
+            if (description.length() > 0) {
+                description.append('\n');
+            }
+            description.append(String.format(MESSAGE_INVALID_PERSON, position, error));
+        });
+        if (errorCount > errors.size()) {
+            description.append('\n').append(String.format(MESSAGE_MORE_INVALID_PERSONS,
+                    errorCount - errors.size()));
+        }
+        return description.toString();
+    }
+
+    /**
+     * Converts the persons in a range of a batch, splitting the range between subtasks if it is long.
+     * Each task writes only to its own range of the result arrays.
+     */
+    private static class ConversionTask extends RecursiveAction {
+        private final List<JsonAdaptedPerson> adaptedPersons;
+        private final Person[] persons;
+        private final String[] errors;
+        private final int from;
+        private final int to;
+
+        ConversionTask(List<JsonAdaptedPerson> adaptedPersons, Person[] persons, String[] errors, int from, int to) {
+            this.adaptedPersons = adaptedPersons;
+            this.persons = persons;
+            this.errors = errors;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > MAX_PERSONS_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ConversionTask(adaptedPersons, persons, errors, from, middle),
+                        new ConversionTask(adaptedPersons, persons, errors, middle, to));
+                return;
+            }
+
+            for (int i = from; i < to; i++) {
+                try {
+                    persons[i] = adaptedPersons.get(i).toModelType();
+                } catch (IllegalValueException ive) {
+                    errors[i] = ive.getMessage();
+                }
+            }
+        }
+    }
+}
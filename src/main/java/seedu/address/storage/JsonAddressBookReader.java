@@ -0,0 +1,90 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+/**
+ * Reads an address book in the json format of {@link JsonSerializableAddressBook} one batch of persons at a time.
+ * Each batch is converted into the model, in parallel, as soon as it is parsed, so neither the whole file nor a
+ * {@code JsonAdaptedPerson} for every person is held in memory.
+ */
+class JsonAddressBookReader {
+
+    public static final String MESSAGE_NOT_AN_ADDRESS_BOOK = "Expected an object with an array of persons.";
+
+    private static final String PERSONS_FIELD = "persons";
+    /** The number of persons parsed before they are converted together */
+    private static final int BATCH_SIZE = 4096;
+
+    /**
+     * Reads the address book in the file at {@code filePath}.
+     *
+     * @throws IOException if the file could not be read or is not valid json.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Reads the address book from {@code in}, without closing it.
+     *
+     * @throws IOException if {@code in} could not be read or is not valid json.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, MESSAGE_NOT_AN_ADDRESS_BOOK);
+            }
+
+            JsonAdaptedPersonConverter converter = new JsonAdaptedPersonConverter();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (!PERSONS_FIELD.equals(fieldName) || value == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (value != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, MESSAGE_NOT_AN_ADDRESS_BOOK);
+                }
+                readPersons(parser, converter);
+            }
+            return converter.getAddressBook();
+        }
+    }
+
+    /**
+     * Passes the persons in the array that {@code parser} is at the start of to {@code converter}.
+     */
+    private static void readPersons(JsonParser parser, JsonAdaptedPersonConverter converter) throws IOException {
+        List<JsonAdaptedPerson> batch = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, MESSAGE_NOT_AN_ADDRESS_BOOK);
+            }
+            batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+            if (batch.size() == BATCH_SIZE) {
+                converter.convert(batch);
+                batch.clear();
+            }
+        }
+        converter.convert(batch);
+    }
+}
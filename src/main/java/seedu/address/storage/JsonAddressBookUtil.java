@@ -44,4 +44,13 @@ public class JsonAddressBookUtil {
             throw new DataLoadingException(e);
         }
     }
+
+    /**
+     * Converts {@code addressBook} into a JSON string, in the same format as the address book JSON file.
+     *
+     * @throws IOException if {@code addressBook} could not be converted.
+     */
+    public static String toJsonString(ReadOnlyAddressBook addressBook) throws IOException {
+        return JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+    }
 }
@@ -0,0 +1,61 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes an address book in the json format of {@link JsonSerializableAddressBook} one person at a time.
+ * Each person is written straight from the model, so saving needs no {@code JsonAdaptedPerson}s and only a small,
+ * fixed amount of memory beyond the address book itself.
+ */
+class JsonAddressBookWriter {
+
+    /**
+     * Writes {@code addressBook} to {@code out}, without closing it.
+     *
+     * @param isPrettyPrinted whether to lay the json out on indented lines, as {@code JsonUtil#toJsonString} does,
+     *     rather than all on one line.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, OutputStream out, boolean isPrettyPrinted)
+            throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            if (isPrettyPrinted) {
+                generator.useDefaultPrettyPrinter();
+            }
+
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("persons");
+            for (Person person : addressBook.getPersonList()) {
+                writePerson(generator, person);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Writes {@code person} with the same fields as {@link JsonAdaptedPerson}.
+     */
+    private static void writePerson(JsonGenerator generator, Person person) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", person.getName().fullName);
+        generator.writeStringField("phone", person.getPhone().value);
+        generator.writeStringField("email", person.getEmail().value);
+        generator.writeStringField("address", person.getAddress().value);
+        generator.writeArrayFieldStart("tags");
+        for (Tag tag : person.getTags()) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+        generator.writeStringField("status", person.getStatus().name());
+        generator.writeEndObject();
+    }
+}
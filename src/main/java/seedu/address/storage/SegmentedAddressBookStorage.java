@@ -0,0 +1,454 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * A class to access AddressBook data stored on the hard disk as a number of json segment files, listed by a
+ * manifest file in the same directory.
+ * Each person is kept in the segment picked by the hash of its phone number, so that duplicate persons always share a
+ * segment, along with a rank that gives its place in the address book. A save rewrites only the segments whose
+ * persons changed since the last save, each to a new file, and then replaces the manifest in one atomic rename, so
+ * that the files listed by the manifest always belong together. Segments are read in parallel.
+ * If there is no manifest yet, the json file the segments replace is read instead, so that it is converted on the
+ * next save.
+ */
+public class SegmentedAddressBookStorage implements AddressBookStorage {
+
+    public static final String DIRECTORY_EXTENSION = ".segments";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final int DEFAULT_SEGMENT_COUNT = 16;
+
+    private static final String SEGMENT_FILE_PREFIX = "segment-";
+    /** The gap left between the ranks of neighbouring persons, so that persons can be inserted between them */
+    private static final long RANK_GAP = 1L << 20;
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedAddressBookStorage.class);
+
+    private final Path manifestPath;
+    private final Path jsonFilePath;
+    private final int segmentCount;
+
+    /** The ranks of the persons in the files, or null if the files may not match any known persons */
+    private Map<Person, Long> savedRanks;
+    private List<String> segmentFileNames;
+    private long generation;
+
+    /**
+     * Creates a storage that keeps persons in {@code segmentCount} segments listed by the manifest at
+     * {@code manifestPath}, which replace the json file at {@code jsonFilePath}.
+     */
+    public SegmentedAddressBookStorage(Path manifestPath, Path jsonFilePath, int segmentCount) {
+        if (segmentCount <= 0) {
+            throw new IllegalArgumentException("Segment count must be positive.");
+        }
+        this.manifestPath = manifestPath;
+        this.jsonFilePath = jsonFilePath;
+        this.segmentCount = segmentCount;
+    }
+
+    /**
+     * Returns the path of the manifest of the segments that replace the json file at {@code jsonFilePath}.
+     */
+    public static Path getManifestFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        String baseName = fileName.endsWith(".json") ? fileName.substring(0, fileName.length() - 5) : fileName;
+        return jsonFilePath.resolveSibling(baseName + DIRECTORY_EXTENSION).resolve(MANIFEST_FILE_NAME);
+    }
+
+    /**
+     * Converts the segments beside the json file of {@code jsonStorage} to json, if they were saved after the json
+     * file. This keeps the changes saved while segments were in use when switching back.
+     *
+     * @throws DataLoadingException if the segments could not be read.
+     * @throws IOException if the json file could not be written.
+     */
+    public static void convertToJsonIfNewer(AddressBookStorage jsonStorage) throws DataLoadingException, IOException {
+        Path jsonFilePath = jsonStorage.getAddressBookFilePath();
+        Path manifestPath = getManifestFilePath(jsonFilePath);
+        if (!Files.exists(manifestPath)) {
+            return;
+        }
+        if (Files.exists(jsonFilePath)
+                && !Files.getLastModifiedTime(manifestPath).toInstant()
+                        .isAfter(Files.getLastModifiedTime(jsonFilePath).toInstant())) {
+            return;
+        }
+
+        logger.info("Converting " + manifestPath.getParent() + " to " + jsonFilePath);
+        Optional<ReadOnlyAddressBook> addressBook = new SegmentedAddressBookStorage(manifestPath, jsonFilePath,
+                DEFAULT_SEGMENT_COUNT).readAddressBook();
+        if (addressBook.isPresent()) {
+            jsonStorage.saveAddressBook(addressBook.get());
+        }
+    }
+
+    public Path getAddressBookFilePath() {
+        return manifestPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(manifestPath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param manifestPath location of the manifest. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path manifestPath)
+            throws DataLoadingException {
+        requireNonNull(manifestPath);
+
+        if (!Files.exists(manifestPath)) {
+            if (manifestPath.equals(this.manifestPath) && Files.exists(jsonFilePath)) {
+                logger.info("No segments at " + manifestPath.getParent() + ", reading " + jsonFilePath + " instead.");
+                return new JsonAddressBookStorage(jsonFilePath).readAddressBook();
+            }
+            return Optional.empty();
+        }
+
+        try {
+            JsonSerializableManifest manifest = JsonUtil.fromJsonString(
+                    FileUtil.readFromFile(manifestPath), JsonSerializableManifest.class);
+            List<RankedPerson> rankedPersons = readSegments(manifestPath.getParent(), manifest.segmentFiles);
+            rankedPersons.sort((first, second) -> Long.compare(first.rank, second.rank));
+
+            AddressBook addressBook = new AddressBook();
+            Map<Person, Long> ranks = new IdentityHashMap<>();
+            for (RankedPerson rankedPerson : rankedPersons) {
+                // segments written by this storage never share a person, but the files may have been edited since
+                if (addressBook.hasPerson(rankedPerson.person)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                addressBook.addPerson(rankedPerson.person);
+                ranks.put(rankedPerson.person, rankedPerson.rank);
+            }
+
+            if (manifestPath.equals(this.manifestPath)) {
+                boolean isSameLayout = manifest.segmentFiles.size() == segmentCount;
+                savedRanks = isSameLayout ? ranks : null;
+                segmentFileNames = new ArrayList<>(manifest.segmentFiles);
+                generation = manifest.generation;
+            }
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from segments of " + manifestPath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in segments of " + manifestPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Reads the segments named {@code segmentFiles} in {@code directory} in parallel, and returns all their persons.
+     * Each segment is checked for duplicate persons as it is read.
+     */
+    private static List<RankedPerson> readSegments(Path directory, List<String> segmentFiles)
+            throws IOException, IllegalValueException {
+        List<Callable<List<RankedPerson>>> tasks = new ArrayList<>();
+        for (String segmentFile : segmentFiles) {
+            tasks.add(() -> readSegment(directory.resolve(segmentFile)));
+        }
+
+        List<RankedPerson> rankedPersons = new ArrayList<>();
+        try {
+            for (Future<List<RankedPerson>> segment : ForkJoinPool.commonPool().invokeAll(tasks)) {
+                rankedPersons.addAll(segment.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading segments", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else if (e.getCause() instanceof IllegalValueException) {
+                throw (IllegalValueException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+        return rankedPersons;
+    }
+
+    private static List<RankedPerson> readSegment(Path segmentPath) throws IOException, IllegalValueException {
+        JsonSerializableSegment segment = JsonUtil.fromJsonString(
+                FileUtil.readFromFile(segmentPath), JsonSerializableSegment.class);
+        if (segment.ranks.size() != segment.persons.size()) {
+            throw new IllegalValueException(JsonSerializableSegment.MESSAGE_RANKS_MISMATCH);
+        }
+
+        List<RankedPerson> rankedPersons = new ArrayList<>();
+        Set<Phone> phones = new HashSet<>();
+        for (int i = 0; i < segment.persons.size(); i++) {
+            if (segment.ranks.get(i) == null || segment.persons.get(i) == null) {
+                throw new IllegalValueException(JsonSerializableSegment.MESSAGE_RANKS_MISMATCH);
+            }
+            Person person = segment.persons.get(i).toModelType();
+            // persons are the same if their phones are, and persons with the same phone share a segment
+            if (!phones.add(person.getPhone())) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            rankedPersons.add(new RankedPerson(segment.ranks.get(i), person));
+        }
+        return rankedPersons;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, manifestPath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the segments listed by the manifest of this storage are rewritten selectively; saves to other manifests
+     * always write every segment.
+     *
+     * @param manifestPath location of the manifest. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path manifestPath)
+            throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(manifestPath);
+
+        if (!manifestPath.equals(this.manifestPath)) {
+            new SegmentedAddressBookStorage(manifestPath, jsonFilePath, segmentCount).saveAddressBook(addressBook);
+            return;
+        }
+
+        List<Person> persons = addressBook.getPersonList();
+        long[] ranks = rank(persons);
+        boolean[] isDirty = findDirtySegments(persons, ranks);
+
+        List<List<Person>> segmentPersons = new ArrayList<>();
+        List<List<Long>> segmentRanks = new ArrayList<>();
+        for (int i = 0; i < segmentCount; i++) {
+            segmentPersons.add(new ArrayList<>());
+            segmentRanks.add(new ArrayList<>());
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            int segment = segmentOf(persons.get(i));
+            segmentPersons.get(segment).add(persons.get(i));
+            segmentRanks.get(segment).add(ranks[i]);
+        }
+
+        Path directory = manifestPath.getParent();
+        Files.createDirectories(directory);
+        long newGeneration = generation + 1;
+        List<String> newSegmentFileNames = new ArrayList<>();
+        for (int i = 0; i < segmentCount; i++) {
+            if (!isDirty[i]) {
+                newSegmentFileNames.add(segmentFileNames.get(i));
+                continue;
+            }
+            String segmentFileName = SEGMENT_FILE_PREFIX + i + "-" + newGeneration + ".json";
+            writeJson(directory.resolve(segmentFileName),
+                    JsonSerializableSegment.of(segmentRanks.get(i), segmentPersons.get(i)));
+            newSegmentFileNames.add(segmentFileName);
+        }
+
+        // Until the new manifest is in place, the files may be listed by either manifest
+        savedRanks = null;
+        writeJson(manifestPath, new JsonSerializableManifest(newGeneration, newSegmentFileNames));
+        generation = newGeneration;
+        segmentFileNames = newSegmentFileNames;
+        savedRanks = new IdentityHashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            savedRanks.put(persons.get(i), ranks[i]);
+        }
+        deleteUnlistedSegments(directory);
+    }
+
+    /**
+     * Returns the ranks of {@code persons}, keeping the ranks of the persons last saved where they are still in
+     * order and fitting the other persons in between.
+     */
+    private long[] rank(List<Person> persons) {
+        long[] ranks = new long[persons.size()];
+        if (savedRanks != null && fitRanks(persons, ranks)) {
+            return ranks;
+        }
+        for (int i = 0; i < ranks.length; i++) {
+            ranks[i] = (i + 1) * RANK_GAP;
+        }
+        return ranks;
+    }
+
+    /**
+     * Fills in {@code ranks} by keeping the saved ranks of persons and spreading new persons evenly between them.
+     *
+     * @return false if the saved ranks are out of order or leave no room for the new persons.
+     */
+    private boolean fitRanks(List<Person> persons, long[] ranks) {
+        long previousRank = 0;
+        int firstUnranked = 0;
+        for (int i = 0; i <= persons.size(); i++) {
+            Long savedRank = i < persons.size() ? savedRanks.get(persons.get(i)) : null;
+            if (i < persons.size() && savedRank == null) {
+                continue;
+            }
+
+            int unrankedCount = i - firstUnranked;
+            long nextRank = savedRank != null ? savedRank : previousRank + (unrankedCount + 1) * RANK_GAP;
+            long step = (nextRank - previousRank) / (unrankedCount + 1);
+            if (step <= 0) {
+                return false;
+            }
+            for (int j = firstUnranked; j < i; j++) {
+                ranks[j] = previousRank + (j - firstUnranked + 1) * step;
+            }
+            if (savedRank != null) {
+                ranks[i] = savedRank;
+                previousRank = savedRank;
+            }
+            firstUnranked = i + 1;
+        }
+        return true;
+    }
+
+    /**
+     * Returns which segments hold persons that were added, removed or given a new rank since the last save.
+     * Every segment is dirty if the files may not match the persons last saved.
+     */
+    private boolean[] findDirtySegments(List<Person> persons, long[] ranks) {
+        boolean[] isDirty = new boolean[segmentCount];
+        if (savedRanks == null || segmentFileNames == null || segmentFileNames.size() != segmentCount) {
+            Arrays.fill(isDirty, true);
+            return isDirty;
+        }
+
+        Set<Person> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < persons.size(); i++) {
+            Long savedRank = savedRanks.get(persons.get(i));
+            if (savedRank == null || savedRank != ranks[i]) {
+                isDirty[segmentOf(persons.get(i))] = true;
+            }
+            kept.add(persons.get(i));
+        }
+        for (Person savedPerson : savedRanks.keySet()) {
+            if (!kept.contains(savedPerson)) {
+                isDirty[segmentOf(savedPerson)] = true;
+            }
+        }
+        return isDirty;
+    }
+
+    private int segmentOf(Person person) {
+        return Math.floorMod(person.getPhone().hashCode(), segmentCount);
+    }
+
+    /**
+     * Deletes the segment files in {@code directory} that the manifest no longer lists, including any left behind by
+     * saves that did not finish.
+     */
+    private void deleteUnlistedSegments(Path directory) {
+        Set<String> listed = new HashSet<>(segmentFileNames);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_FILE_PREFIX + "*")) {
+            for (Path file : files) {
+                if (!listed.contains(file.getFileName().toString())) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Could not delete old segments in " + directory + ": " + e.getMessage());
+        }
+    }
+
+    private static void writeJson(Path file, Object jsonObject) throws IOException {
+        FileUtil.writeToFile(file, JsonUtil.toCompactJsonString(jsonObject).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * A person read from a segment, with its rank.
+     */
+    private static class RankedPerson {
+        private final long rank;
+        private final Person person;
+
+        RankedPerson(long rank, Person person) {
+            this.rank = rank;
+            this.person = person;
+        }
+    }
+
+    /**
+     * Jackson-friendly list of the segment files that make up an address book.
+     */
+    static class JsonSerializableManifest {
+        private final long generation;
+        private final List<String> segmentFiles = new ArrayList<>();
+
+        @JsonCreator
+        public JsonSerializableManifest(@JsonProperty("generation") long generation,
+                @JsonProperty("segmentFiles") List<String> segmentFiles) {
+            this.generation = generation;
+            if (segmentFiles != null) {
+                this.segmentFiles.addAll(segmentFiles);
+            }
+        }
+    }
+
+    /**
+     * Jackson-friendly segment of an address book: its persons, with the rank of each.
+     */
+    static class JsonSerializableSegment {
+        public static final String MESSAGE_RANKS_MISMATCH = "Segment does not have one rank for each person.";
+
+        private final List<Long> ranks = new ArrayList<>();
+        private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+
+        @JsonCreator
+        public JsonSerializableSegment(@JsonProperty("ranks") List<Long> ranks,
+                @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+            if (ranks != null) {
+                this.ranks.addAll(ranks);
+            }
+            if (persons != null) {
+                this.persons.addAll(persons);
+            }
+        }
+
+        /**
+         * Converts the given persons, with their ranks, into this class for Jackson use.
+         */
+        static JsonSerializableSegment of(List<Long> ranks, List<Person> persons) {
+            List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+            persons.forEach(person -> adaptedPersons.add(new JsonAdaptedPerson(person)));
+            return new JsonSerializableSegment(ranks, adaptedPersons);
+        }
+    }
+}
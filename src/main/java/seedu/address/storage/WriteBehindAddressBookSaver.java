@@ -0,0 +1,141 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Saves the address book to an {@code AddressBookStorage} on a background thread, so that callers do not wait for
+ * the disk.
+ * A save is written {@code saveDelayMillis} after it is requested. Saves requested in the meantime replace it, so a
+ * burst of changes is written once, with the latest data.
+ */
+public class WriteBehindAddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindAddressBookSaver.class);
+    private static final long IDLE_THREAD_TIMEOUT_SECONDS = 10;
+
+    private final AddressBookStorage storage;
+    private final long saveDelayMillis;
+    private final ScheduledThreadPoolExecutor executor;
+    /** Held while writing, so that writes reach the disk in the order they were requested */
+    private final Object writeLock = new Object();
+
+    /** The latest data requested to be saved that has not been written yet, or null if there is none */
+    private ReadOnlyAddressBook pendingSnapshot;
+    private boolean isWriteScheduled;
+    private volatile Consumer<IOException> failureHandler = e -> {};
+
+    /**
+     * Creates a saver that writes to {@code storage} {@code saveDelayMillis} after a save is requested.
+     */
+    public WriteBehindAddressBookSaver(AddressBookStorage storage, long saveDelayMillis) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.saveDelayMillis = saveDelayMillis;
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setKeepAliveTime(IDLE_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Sets the handler called, on the background thread, when a save in the background fails.
+     * The data that failed to save is written again with the next save or flush.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Requests that the current data of {@code addressBook} be saved.
+     * The data is copied before this method returns, so {@code addressBook} can go on changing.
+     */
+    public void save(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        ReadOnlyAddressBook snapshot = new Snapshot(addressBook.getPersonList());
+        synchronized (this) {
+            pendingSnapshot = snapshot;
+            if (!isWriteScheduled) {
+                isWriteScheduled = true;
+                executor.schedule(this::writeInBackground, saveDelayMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Writes the data of the latest save requested, if it has not been written yet, and waits until it is.
+     *
+     * @throws IOException if there was an error writing to the storage.
+     */
+    public void flush() throws IOException {
+        writePendingSnapshot();
+    }
+
+    private void writeInBackground() {
+        try {
+            writePendingSnapshot();
+        } catch (IOException e) {
+            logger.warning("Failed to save address book in the background: " + e.getMessage());
+            failureHandler.accept(e);
+        }
+    }
+
+    private void writePendingSnapshot() throws IOException {
+        synchronized (writeLock) {
+            ReadOnlyAddressBook snapshot;
+            synchronized (this) {
+                snapshot = pendingSnapshot;
+                pendingSnapshot = null;
+                isWriteScheduled = false;
+            }
+            if (snapshot == null) {
+                return;
+            }
+
+            try {
+                storage.saveAddressBook(snapshot);
+            } catch (IOException e) {
+                synchronized (this) {
+                    // Keep the failed data for the next attempt, unless newer data has been requested since
+                    if (pendingSnapshot == null) {
+                        pendingSnapshot = snapshot;
+                    }
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * An unchanging copy of the persons in an address book.
+     */
+    private static class Snapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+
+        Snapshot(List<Person> persons) {
+            this.persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(List.copyOf(persons)));
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+    }
+}
@@ -1,34 +1,79 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import javafx.animation.KeyFrame;
+import javafx.animation.PauseTransition;
+import javafx.animation.Timeline;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.commands.ProgressMonitor;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * While a command runs, further commands are not accepted, the progress of the command is shown if it takes long,
+ * and pressing Escape cancels it.
+ * The text is also handed to a live filter once typing pauses, so that find commands can be previewed. Text typed
+ * while a command runs is not previewed until the command finishes, as the command refers to the persons shown.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
 
+    /** How often the progress of a running command is shown */
+    private static final Duration PROGRESS_UPDATE_INTERVAL = Duration.millis(100);
+    /** How long a command runs before its progress is shown, so that quick commands do not flash the bar */
+    private static final long PROGRESS_DELAY_NANOS = 300_000_000L;
+    /** How long typing must pause before the text is handed to the live filter */
+    private static final Duration LIVE_FILTER_DELAY = Duration.millis(150);
+
     private final CommandExecutor commandExecutor;
+    private final Timeline progressTimeline;
+    private final PauseTransition liveFilterDelay = new PauseTransition(LIVE_FILTER_DELAY);
+
+    /** The monitor of the command running, or null if no command is running */
+    private ProgressMonitor runningMonitor;
+    private long runningSinceNanos;
 
     @FXML
     private TextField commandTextField;
 
+    @FXML
+    private ProgressBar progressBar;
+
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, that hands the text typed to
+     * {@code liveFilter} whenever typing pauses.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, Consumer<String> liveFilter) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        liveFilterDelay.setOnFinished(unused -> liveFilter.accept(commandTextField.getText()));
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> {
+            setStyleToDefault();
+            if (runningMonitor == null) {
+                liveFilterDelay.playFromStart();
+            }
+        });
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.ESCAPE && runningMonitor != null) {
+                runningMonitor.cancel();
+                event.consume();
+            }
+        });
+
+        progressTimeline = new Timeline(new KeyFrame(PROGRESS_UPDATE_INTERVAL, unused -> updateProgress()));
+        progressTimeline.setCycleCount(Timeline.INDEFINITE);
     }
 
     /**
@@ -37,16 +82,52 @@ public class CommandBox extends UiPart<Region> {
     @FXML
     private void handleCommandEntered() {
         String commandText = commandTextField.getText();
-        if (commandText.equals("")) {
+        if (commandText.equals("") || runningMonitor != null) {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        // The command takes over the person list, so a preview of the text just entered must not replace it
+        liveFilterDelay.stop();
+        ProgressMonitor monitor = new ProgressMonitor();
+        startShowingProgress(monitor);
+        commandExecutor.execute(commandText, monitor).whenComplete((result, error) -> {
+            stopShowingProgress();
+            if (!commandTextField.getText().equals(commandText)) {
+                // the next command was typed while this one ran, so keep it, and preview it now
+                liveFilterDelay.playFromStart();
+            } else if (error == null) {
+                commandTextField.setText("");
+            } else {
+                setStyleToIndicateCommandFailure();
+            }
+        });
+    }
+
+    private void startShowingProgress(ProgressMonitor monitor) {
+        runningMonitor = monitor;
+        runningSinceNanos = System.nanoTime();
+        progressTimeline.play();
+    }
+
+    private void stopShowingProgress() {
+        runningMonitor = null;
+        progressTimeline.stop();
+        progressBar.setVisible(false);
+    }
+
+    /**
+     * Shows the progress of the running command, once it has run for long enough.
+     */
+    private void updateProgress() {
+        if (runningMonitor == null || System.nanoTime() - runningSinceNanos < PROGRESS_DELAY_NANOS) {
+            return;
         }
+
+        double progress = runningMonitor.getProgress();
+        progressBar.setProgress(progress == ProgressMonitor.UNKNOWN_PROGRESS
+                ? ProgressBar.INDETERMINATE_PROGRESS
+                : progress);
+        progressBar.setVisible(true);
     }
 
     /**
@@ -75,11 +156,12 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command, and returns its result.
+         * The result is completed on the JavaFX Application Thread, exceptionally if the command failed.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.Logic#execute(String, ProgressMonitor)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText, ProgressMonitor monitor);
     }
 
 }
@@ -0,0 +1,39 @@
+package seedu.address.ui;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javafx.application.Platform;
+
+/**
+ * Runs commands one at a time on a background thread, so that the window stays responsive while they run.
+ * The results are handed back on the JavaFX Application Thread.
+ */
+public class CommandRunner {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-runner");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Runs {@code task} after the tasks submitted before it.
+     * The future returned is completed on the JavaFX Application Thread, with the result of {@code task} or the
+     * exception it threw.
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                T value = task.call();
+                Platform.runLater(() -> result.complete(value));
+            } catch (Exception | Error e) {
+                Platform.runLater(() -> result.completeExceptionally(e));
+            }
+        });
+        return result;
+    }
+}
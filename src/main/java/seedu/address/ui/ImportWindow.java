@@ -1,6 +1,5 @@
 package seedu.address.ui;
 
-import java.io.IOException;
 import java.util.logging.Logger;
 
 import javafx.fxml.FXML;
@@ -44,6 +43,7 @@ public class ImportWindow extends UiPart<Stage> {
     private static final String ALERT_NO_DATA_TEXT = "Please paste JSON data before saving.";
 
     private final Logic logic;
+    private final CommandRunner commandRunner;
 
     @FXML
     private Text jsonPreview;
@@ -53,10 +53,12 @@ public class ImportWindow extends UiPart<Stage> {
      *
      * @param root  Stage to use as the root of the ImportWindow.
      * @param logic Logic instance to handle saving data.
+     * @param commandRunner Runs the import in the background.
      */
-    public ImportWindow(Stage root, Logic logic) {
+    public ImportWindow(Stage root, Logic logic, CommandRunner commandRunner) {
         super(FXML_FILE, root);
         this.logic = logic;
+        this.commandRunner = commandRunner;
         jsonPreview.setText(DEFAULT_PREVIEW_TEXT);
         setupKeyboardShortcuts();
     }
@@ -64,8 +66,8 @@ public class ImportWindow extends UiPart<Stage> {
     /**
      * Creates a new ImportWindow.
      */
-    public ImportWindow(Logic logic) {
-        this(new Stage(), logic);
+    public ImportWindow(Logic logic, CommandRunner commandRunner) {
+        this(new Stage(), logic, commandRunner);
     }
 
     /**
@@ -163,19 +165,23 @@ public class ImportWindow extends UiPart<Stage> {
             return;
         }
 
-        try {
-            this.importData(text);
-        } catch (IOException e) {
-            this.handleImportError(e);
-        }
+        this.importData(text);
     }
 
     /**
-     * Imports the JSON data using the logic layer.
+     * Imports the JSON data using the logic layer, in the background.
      */
-    private void importData(String jsonData) throws IOException {
-        logic.importJsonString(jsonData);
-        this.showSuccessAlertAndClose();
+    private void importData(String jsonData) {
+        commandRunner.submit(() -> {
+            logic.importJsonString(jsonData);
+            return null;
+        }).whenComplete((unused, error) -> {
+            if (error == null) {
+                this.showSuccessAlertAndClose();
+            } else {
+                this.handleImportError(error);
+            }
+        });
     }
 
     /**
@@ -190,7 +196,7 @@ public class ImportWindow extends UiPart<Stage> {
     /**
      * Handles import error by logging and showing error alert.
      */
-    private void handleImportError(IOException e) {
+    private void handleImportError(Throwable e) {
         logger.warning("Failed to import JSON: " + e.getMessage());
         this.showImportFailedAlertDialog();
     }
@@ -211,7 +217,7 @@ public class ImportWindow extends UiPart<Stage> {
     }
 
     /**
-     * Displays alert dialog when import fails due to IOException.
+     * Displays alert dialog when import fails.
      */
     private void showImportFailedAlertDialog() {
         ShowAlert.showAlertDialogAndWait(getRoot(), AlertType.ERROR, ALERT_IMPORT_FAILED_TITLE,
@@ -1,7 +1,9 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -14,6 +16,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ProgressMonitor;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.TemplateViewState;
@@ -30,6 +33,7 @@ public class MainWindow extends UiPart<Stage> {
 
     private Stage primaryStage;
     private Logic logic;
+    private CommandRunner commandRunner;
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
@@ -72,6 +76,16 @@ public class MainWindow extends UiPart<Stage> {
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.commandRunner = new CommandRunner();
+
+        // Commands run in the background, but the UI observes the model, so it is changed on this thread
+        logic.setModelChangeExecutor(change -> {
+            if (Platform.isFxApplicationThread()) {
+                change.run();
+            } else {
+                Platform.runLater(change);
+            }
+        });
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -79,7 +93,7 @@ public class MainWindow extends UiPart<Stage> {
         setAccelerators();
 
         helpWindow = new HelpWindow();
-        importWindow = new ImportWindow(logic);
+        importWindow = new ImportWindow(logic, commandRunner);
     }
 
     public Stage getPrimaryStage() {
@@ -138,10 +152,14 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::liveFilter);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
-        sidebarPanel = new SidebarPanel(logic.getStatusViewStateProperty(), logic.getTagsViewStateProperty());
+        // Saves happen in the background, so failures are reported after the command that caused them has finished
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
+
+        sidebarPanel = new SidebarPanel(logic.getStatusViewStateProperty(), logic.getStatusCountsProperty(),
+                logic.getTagsViewStateProperty(), logic.getTagCountsProperty());
         sidebarPanelPlaceholder.getChildren().add(sidebarPanel.getRoot());
 
         // Listen for template view state changes
@@ -210,12 +228,9 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     public void handleExport() {
-        try {
-            CommandResult result = logic.execute("export");
-            resultDisplay.setFeedbackToUser(result.getFeedbackToUser());
-        } catch (CommandException | ParseException e) {
-            resultDisplay.setFeedbackToUser(e.getMessage());
-        }
+        commandRunner.submit(() -> logic.execute("export")).whenComplete((result, error) -> {
+            resultDisplay.setFeedbackToUser(error == null ? result.getFeedbackToUser() : error.getMessage());
+        });
     }
 
     public PersonListPanel getPersonListPanel() {
@@ -223,16 +238,27 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Starts executing the command in the background, and returns its result.
+     * The result is shown once the command has finished, on the JavaFX Application Thread.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.Logic#execute(String, ProgressMonitor)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            // Before executing command, update template content if in template view
-            updateTemplateContentInModel();
+    private CompletableFuture<CommandResult> executeCommand(String commandText, ProgressMonitor monitor) {
+        // Before executing command, update template content if in template view
+        updateTemplateContentInModel();
+        logic.stopLiveFilter();
+
+        return commandRunner.submit(() -> logic.execute(commandText, monitor)).whenComplete((commandResult, error) -> {
+            if (error != null) {
+                if (error instanceof CommandException || error instanceof ParseException) {
+                    logger.info("An error occurred while executing command: " + commandText);
+                } else {
+                    logger.warning("Unexpected error while executing command: " + commandText + ": " + error);
+                }
+                resultDisplay.setFeedbackToUser(error.getMessage());
+                return;
+            }
 
-            CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
@@ -248,13 +274,7 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isExit()) {
                 handleExit();
             }
-
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+        });
     }
 
     /**
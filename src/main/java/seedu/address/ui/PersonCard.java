@@ -1,13 +1,17 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Status;
 
 /**
  * An UI component that displays information of a {@code Person}.
@@ -15,6 +19,8 @@ import seedu.address.model.person.Person;
 public class PersonCard extends UiPart<Region> {
 
     private static final String FXML = "PersonListCard.fxml";
+    private static final Map<Status, String> STATUS_STYLE_CLASSES = Status.values().stream()
+            .collect(Collectors.toMap(status -> status, status -> "status_" + status.name().toLowerCase()));
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -24,8 +30,6 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
-
     @FXML
     private HBox cardPane;
     @FXML
@@ -43,23 +47,66 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private FlowPane tags;
 
+    private Person person;
+    private int displayedIndex;
+
+    /**
+     * Creates an empty {@code PersonCard}, to be shown a person with {@link #setPerson(Person, int)}.
+     */
+    public PersonCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
-        this.person = person;
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Shows {@code person} with the given index on this card, reusing the nodes already on it.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        if (person == this.person && displayedIndex == this.displayedIndex) {
+            return;
+        }
+        this.displayedIndex = displayedIndex;
         id.setText(displayedIndex + ". ");
+        if (person == this.person) {
+            return;
+        }
+
+        this.person = person;
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
         address.setText(person.getAddress().value);
         email.setText(person.getEmail().value);
         status.setText(person.getStatusText());
-        status.getStyleClass().clear(); // need to clear first or else text remains white
-        status.getStyleClass().add("status_label");
-        status.getStyleClass().add("status_" + person.getStatus().name().toLowerCase());
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        // replace all style classes at once, or else the text remains white
+        status.getStyleClass().setAll("status_label", STATUS_STYLE_CLASSES.get(person.getStatus()));
+        setTags(person.getSortedTagNames());
+    }
+
+    /**
+     * Shows {@code tagNames} as labels, reusing the labels of the person shown before.
+     */
+    private void setTags(List<String> tagNames) {
+        List<Node> tagLabels = tags.getChildren();
+        if (tagLabels.size() > tagNames.size()) {
+            tagLabels.remove(tagNames.size(), tagLabels.size());
+        }
+        for (int i = 0; i < tagNames.size(); i++) {
+            if (i < tagLabels.size()) {
+                ((Label) tagLabels.get(i)).setText(tagNames.get(i));
+            } else {
+                tagLabels.add(new Label(tagNames.get(i)));
+            }
+        }
     }
 }
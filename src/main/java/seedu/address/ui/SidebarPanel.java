@@ -4,7 +4,9 @@ import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.fxml.FXML;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
+import seedu.address.model.StatusCounts;
 import seedu.address.model.StatusViewState;
+import seedu.address.model.TagCounts;
 import seedu.address.model.TagsViewState;
 
 /**
@@ -23,19 +25,25 @@ public class SidebarPanel extends UiPart<Region> {
      * Creates a {@code SidebarPanel} with the given view state properties.
      *
      * @param statusViewStateProperty The property containing the current status view state.
+     * @param statusCountsProperty The property containing the number of persons with each status.
      * @param tagsViewStateProperty The property containing the current tags view state.
+     * @param tagCountsProperty The property containing the number of persons with each status that have each of
+     *     the tags being viewed.
      */
     public SidebarPanel(ReadOnlyObjectProperty<StatusViewState> statusViewStateProperty,
-                        ReadOnlyObjectProperty<TagsViewState> tagsViewStateProperty) {
+                        ReadOnlyObjectProperty<StatusCounts> statusCountsProperty,
+                        ReadOnlyObjectProperty<TagsViewState> tagsViewStateProperty,
+                        ReadOnlyObjectProperty<TagCounts> tagCountsProperty) {
         super(FXML);
 
         // Create and add the StatusViewPanel
-        StatusViewPanel statusViewPanel = new StatusViewPanel(statusViewStateProperty);
+        StatusViewPanel statusViewPanel = new StatusViewPanel(statusViewStateProperty, statusCountsProperty);
         statusSectionPlaceholder.getChildren().clear();
         statusSectionPlaceholder.getChildren().add(statusViewPanel.getRoot());
 
         // Create and add the TagsViewPanel
-        TagsViewPanel tagsViewPanel = new TagsViewPanel(tagsViewStateProperty);
+        TagsViewPanel tagsViewPanel = new TagsViewPanel(tagsViewStateProperty, statusViewStateProperty,
+                tagCountsProperty);
         tagsSectionPlaceholder.getChildren().clear();
         tagsSectionPlaceholder.getChildren().add(tagsViewPanel.getRoot());
     }
@@ -4,6 +4,7 @@ import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.address.model.StatusCounts;
 import seedu.address.model.StatusViewState;
 
 /**
@@ -16,13 +17,19 @@ public class StatusViewPanel extends UiPart<Region> {
     @FXML
     private Label statusLabel;
 
+    @FXML
+    private Label statusCountsLabel;
+
     /**
-     * Creates a {@code StatusViewPanel} with the given {@code statusViewStateProperty}.
-     * The panel will automatically update when the status view state changes.
+     * Creates a {@code StatusViewPanel} with the given {@code statusViewStateProperty} and
+     * {@code statusCountsProperty}.
+     * The panel will automatically update when the status view state or the status counts change.
      *
      * @param statusViewStateProperty The property containing the current status view state.
+     * @param statusCountsProperty The property containing the number of persons with each status.
      */
-    public StatusViewPanel(ReadOnlyObjectProperty<StatusViewState> statusViewStateProperty) {
+    public StatusViewPanel(ReadOnlyObjectProperty<StatusViewState> statusViewStateProperty,
+                           ReadOnlyObjectProperty<StatusCounts> statusCountsProperty) {
         super(FXML);
 
         // Set initial text
@@ -32,6 +39,11 @@ public class StatusViewPanel extends UiPart<Region> {
         statusViewStateProperty.addListener((observable, oldValue, newValue) -> {
             statusLabel.setText(newValue.getDisplayText());
         });
+
+        statusCountsLabel.setText(statusCountsProperty.getValue().getDisplayText());
+        statusCountsProperty.addListener((observable, oldValue, newValue) -> {
+            statusCountsLabel.setText(newValue.getDisplayText());
+        });
     }
 }
 
@@ -4,6 +4,8 @@ import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.address.model.StatusViewState;
+import seedu.address.model.TagCounts;
 import seedu.address.model.TagsViewState;
 
 /**
@@ -16,22 +18,45 @@ public class TagsViewPanel extends UiPart<Region> {
     @FXML
     private Label tagsLabel;
 
+    @FXML
+    private Label tagCountsLabel;
+
+    private final ReadOnlyObjectProperty<StatusViewState> statusViewStateProperty;
+    private final ReadOnlyObjectProperty<TagCounts> tagCountsProperty;
+
     /**
-     * Creates a {@code TagsViewPanel} with the given {@code tagsViewStateProperty}.
-     * The panel will automatically update when the tags view state changes.
+     * Creates a {@code TagsViewPanel} with the given {@code tagsViewStateProperty}, {@code statusViewStateProperty}
+     * and {@code tagCountsProperty}.
+     * The panel will automatically update when the tags view state, the status view state or the tag counts change.
      *
      * @param tagsViewStateProperty The property containing the current tags view state.
+     * @param statusViewStateProperty The property containing the current status view state.
+     * @param tagCountsProperty The property containing the number of persons with each status that have each of
+     *     the tags being viewed.
      */
-    public TagsViewPanel(ReadOnlyObjectProperty<TagsViewState> tagsViewStateProperty) {
+    public TagsViewPanel(ReadOnlyObjectProperty<TagsViewState> tagsViewStateProperty,
+                         ReadOnlyObjectProperty<StatusViewState> statusViewStateProperty,
+                         ReadOnlyObjectProperty<TagCounts> tagCountsProperty) {
         super(FXML);
+        this.statusViewStateProperty = statusViewStateProperty;
+        this.tagCountsProperty = tagCountsProperty;
 
         // Set initial text
         tagsLabel.setText(tagsViewStateProperty.getValue().getDisplayText());
+        updateTagCounts();
 
         // Listen for changes and update the label
         tagsViewStateProperty.addListener((observable, oldValue, newValue) -> {
             tagsLabel.setText(newValue.getDisplayText());
         });
+
+        // The counts shown for each tag depend on the status being viewed as well
+        statusViewStateProperty.addListener((observable, oldValue, newValue) -> updateTagCounts());
+        tagCountsProperty.addListener((observable, oldValue, newValue) -> updateTagCounts());
+    }
+
+    private void updateTagCounts() {
+        tagCountsLabel.setText(tagCountsProperty.getValue().getDisplayText(statusViewStateProperty.getValue()));
     }
 }
 
@@ -12,7 +12,13 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", addressBookSaveDelayMillis=" + config.getAddressBookSaveDelayMillis()
+                + ", addressBookStorageFormat=" + config.getAddressBookStorageFormat()
+                + ", addressBookPrettyPrinted=" + config.isAddressBookPrettyPrinted()
+                + ", addressBookSegmentCount=" + config.getAddressBookSegmentCount()
+                + ", fsyncPolicy=" + config.getFsyncPolicy()
+                + ", fsyncIntervalMillis=" + config.getFsyncIntervalMillis() + "}";
         assertEquals(expected, config.toString());
     }
 
@@ -1,13 +1,31 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil.FsyncPolicy;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
+    @AfterEach
+    public void resetFsyncPolicy() {
+        FileUtil.setFsyncPolicy(FsyncPolicy.ALWAYS, 0);
+    }
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +38,68 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_contentReplaced() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "a longer first content");
+        FileUtil.writeToFile(file, "second");
+
+        assertEquals("second", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(testFolder.resolve("file.txt" + FileUtil.TEMP_FILE_SUFFIX)));
+    }
+
+    @Test
+    public void writeToFile_eachFsyncPolicy_contentWritten() throws Exception {
+        for (FsyncPolicy policy : FsyncPolicy.values()) {
+            FileUtil.setFsyncPolicy(policy, 1000);
+            Path file = testFolder.resolve(policy + ".txt");
+            FileUtil.writeToFile(file, policy.name());
+            FileUtil.writeToFile(file, policy.name() + " again");
+            assertEquals(policy.name() + " again", FileUtil.readFromFile(file));
+        }
+    }
+
+    @Test
+    public void writeToFile_missingDirectory_throwsIoExceptionAndLeavesNoTempFile() {
+        Path file = testFolder.resolve("missing").resolve("file.txt");
+        assertThrows(IOException.class, () -> FileUtil.writeToFile(file, "content"));
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void appendToFile_existingFile_contentAppended() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.appendToFile(file, "first ".getBytes());
+        FileUtil.appendToFile(file, "second".getBytes());
+
+        assertEquals("first second", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeToFile_intervalFsyncPolicy_unforcedWriteForcedWithinInterval() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.setFsyncPolicy(FsyncPolicy.INTERVAL, 60_000);
+        FileUtil.forceUnforcedFiles();
+        FileUtil.writeToFile(file, "first");
+        FileUtil.appendToFile(file, " second".getBytes());
+        assertTrue(FileUtil.hasUnforcedFiles());
+        FileUtil.forceUnforcedFiles();
+        assertFalse(FileUtil.hasUnforcedFiles());
+
+        // the last write of a burst is forced without waiting for another write
+        FileUtil.setFsyncPolicy(FsyncPolicy.INTERVAL, 50);
+        FileUtil.writeToFile(file, "third");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (FileUtil.hasUnforcedFiles() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertFalse(FileUtil.hasUnforcedFiles());
+        assertEquals("third", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void setFsyncPolicy_nullPolicy_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> FileUtil.setFsyncPolicy(null, 0));
+    }
+
 }
@@ -1,10 +1,12 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +125,74 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for containsIgnoreCase --------------------------------------
+
+    @Test
+    public void containsIgnoreCase_nullInputs_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.containsIgnoreCase(null, "abc"));
+        assertThrows(NullPointerException.class, () -> StringUtil.containsIgnoreCase("abc", null));
+    }
+
+    @Test
+    public void containsIgnoreCase_validInputs_correctResult() {
+        // Empty part is contained everywhere
+        assertTrue(StringUtil.containsIgnoreCase("", ""));
+        assertTrue(StringUtil.containsIgnoreCase("abc", ""));
+
+        // Part longer than sentence
+        assertFalse(StringUtil.containsIgnoreCase("ab", "abc"));
+
+        // Different upper/lower case letters, at the start, middle and end
+        assertTrue(StringUtil.containsIgnoreCase("Clementi Rd", "CLEM"));
+        assertTrue(StringUtil.containsIgnoreCase("Clementi Rd", "ti r"));
+        assertTrue(StringUtil.containsIgnoreCase("Clementi Rd", "RD"));
+
+        // Not contained
+        assertFalse(StringUtil.containsIgnoreCase("Clementi Rd", "jurong"));
+        assertFalse(StringUtil.containsIgnoreCase("Clementi Rd", "Clementi  Rd"));
+    }
+
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_nullText_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+    }
+
+    @Test
+    public void foldCase_validInputs_correctResult() {
+        assertEquals("", StringUtil.foldCase(""));
+        assertEquals("ave 6", StringUtil.foldCase("AvE 6"));
+
+        // Characters equal ignoring case fold to the same character, even where they are not lower case forms
+        assertEquals("sis", StringUtil.foldCase("\u017FIs"));
+        assertEquals("i", StringUtil.foldCase("\u0131"));
+        assertTrue("\u0131".equalsIgnoreCase("I"));
+
+        // The length is kept
+        assertEquals(1, StringUtil.foldCase("\u00DF").length());
+    }
+
+    //---------------- Tests for toTrigramsIgnoreCase --------------------------------------
+
+    @Test
+    public void toTrigramsIgnoreCase_nullText_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.toTrigramsIgnoreCase(null));
+    }
+
+    @Test
+    public void toTrigramsIgnoreCase_validInputs_correctResult() {
+        // Shorter than a trigram
+        assertEquals(List.of(), StringUtil.toTrigramsIgnoreCase(""));
+        assertEquals(List.of(), StringUtil.toTrigramsIgnoreCase("Rd"));
+
+        // Case folded, in order of first occurrence
+        assertEquals(List.of("ave", "ve ", "e 6"), StringUtil.toTrigramsIgnoreCase("AvE 6"));
+
+        // Repeated trigrams are listed once
+        assertEquals(List.of("aaa"), StringUtil.toTrigramsIgnoreCase("aAaA"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
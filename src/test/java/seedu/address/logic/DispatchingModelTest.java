@@ -0,0 +1,111 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+
+public class DispatchingModelTest {
+
+    private static final String CHANGE_THREAD_NAME = "model-changes";
+
+    private final ExecutorService changeThread = Executors.newSingleThreadExecutor(runnable ->
+            new Thread(runnable, CHANGE_THREAD_NAME));
+    private final List<String> changeThreadNames = new ArrayList<>();
+    private final Model model = new ModelManager() {
+        @Override
+        public void addPerson(Person person) {
+            changeThreadNames.add(Thread.currentThread().getName());
+            super.addPerson(person);
+        }
+    };
+    private int executorCallCount;
+    private final DispatchingModel dispatchingModel = new DispatchingModel(model, change -> {
+        executorCallCount++;
+        changeThread.execute(change);
+    });
+
+    @AfterEach
+    public void tearDown() {
+        changeThread.shutdownNow();
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new DispatchingModel(null, Runnable::run));
+        assertThrows(NullPointerException.class, () -> new DispatchingModel(model, null));
+    }
+
+    @Test
+    public void read_afterChanges_changesMadeTogetherOnExecutor() {
+        dispatchingModel.addPerson(ALICE);
+        dispatchingModel.addPerson(BENSON);
+        assertEquals(0, executorCallCount);
+        assertFalse(model.hasPerson(ALICE));
+
+        assertTrue(dispatchingModel.hasPerson(BENSON));
+        assertEquals(1, executorCallCount);
+        assertEquals(List.of(CHANGE_THREAD_NAME, CHANGE_THREAD_NAME), changeThreadNames);
+
+        // nothing left to make
+        assertTrue(dispatchingModel.hasPerson(ALICE));
+        dispatchingModel.flush();
+        assertEquals(1, executorCallCount);
+    }
+
+    @Test
+    public void batch_mutationsCollected_madeWithOtherChanges() {
+        dispatchingModel.addPerson(ALICE);
+        dispatchingModel.batch(addressBook -> {
+            addressBook.addPerson(BENSON);
+            addressBook.addPerson(CARL);
+        });
+        assertEquals(0, executorCallCount);
+        assertFalse(model.hasPerson(BENSON));
+
+        dispatchingModel.flush();
+        assertEquals(1, executorCallCount);
+        assertEquals(List.of(ALICE, BENSON, CARL), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void flush_changeThrows_exceptionThrown() {
+        dispatchingModel.deletePerson(ALICE);
+        assertThrows(PersonNotFoundException.class, dispatchingModel::flush);
+
+        // the failed change is not made again
+        dispatchingModel.flush();
+        assertEquals(1, executorCallCount);
+    }
+
+    @Test
+    public void getFilteredPersonList_filteredAfterCommandStarted_personsShownAtStartReturned() {
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+        dispatchingModel.startCommand();
+
+        // a preview of the next command shown while this one runs
+        model.updateFilteredPersonList(person -> person.equals(BENSON));
+        assertEquals(List.of(ALICE, BENSON), dispatchingModel.getFilteredPersonList());
+
+        // the command reads its own changes once it has made any
+        dispatchingModel.addPerson(CARL);
+        assertEquals(List.of(BENSON), dispatchingModel.getFilteredPersonList());
+    }
+}
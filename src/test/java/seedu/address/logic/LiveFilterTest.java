@@ -0,0 +1,142 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class LiveFilterTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Queue<Runnable> evaluations = new ArrayDeque<>();
+    private final LiveFilter liveFilter = new LiveFilter(model, evaluations::add);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new LiveFilter(null));
+    }
+
+    @Test
+    public void filter_findCommand_matchesShown() {
+        filterAndEvaluate("find Meier");
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void filter_narrowedFindCommand_onlyPersonsShownChecked() {
+        filterAndEvaluate("find n:Meier");
+        assertEquals(getTypicalPersons().size(), liveFilter.getLastCheckedCount());
+
+        filterAndEvaluate("find n:Meier t:owesmoney");
+        assertEquals(List.of(BENSON), model.getFilteredPersonList());
+        assertEquals(2, liveFilter.getLastCheckedCount());
+
+        // not narrowed down from the persons shown
+        filterAndEvaluate("find n:Meier t:friends");
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+        assertEquals(getTypicalPersons().size(), liveFilter.getLastCheckedCount());
+    }
+
+    @Test
+    public void filter_personsChangedSinceShown_allPersonsChecked() {
+        filterAndEvaluate("find n:Meier");
+        model.addPerson(HOON);
+
+        filterAndEvaluate("find n:Meier t:friends");
+        assertEquals(getTypicalPersons().size() + 1, liveFilter.getLastCheckedCount());
+    }
+
+    @Test
+    public void filter_personsChangedWhileChecked_checkedAgain() {
+        Queue<Runnable> publishes = new ArrayDeque<>();
+        liveFilter.setPublishExecutor(publishes::add);
+        liveFilter.filter("find Meier");
+        evaluations.remove().run();
+        model.addPerson(HOON);
+
+        // not shown, as the person added was not checked
+        publishes.remove().run();
+        assertEquals(getTypicalPersons().size() + 1, model.getFilteredPersonList().size());
+        evaluations.remove().run();
+        publishes.remove().run();
+        assertEquals(List.of(BENSON, DANIEL, HOON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void filter_newerTextBeforeEvaluated_onlyLatestShown() {
+        liveFilter.filter("find Alice");
+        liveFilter.filter("find Meier");
+        evaluations.forEach(Runnable::run);
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void filter_invalidFindCommand_resultKept() {
+        filterAndEvaluate("find Alice");
+        filterAndEvaluate("find t:");
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void filter_notFindCommand_allPersonsShownAgain() {
+        filterAndEvaluate("find Alice");
+        filterAndEvaluate("delete 1");
+        assertEquals(getTypicalPersons(), model.getFilteredPersonList());
+
+        // a list filtered by a command is left alone
+        model.updateFilteredPersonList(ALICE::equals);
+        filterAndEvaluate("");
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void stop_evaluationPending_nothingShown() {
+        liveFilter.filter("find Alice");
+        liveFilter.stop();
+        evaluations.forEach(Runnable::run);
+        assertEquals(getTypicalPersons(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void stop_resultShown_listKept() {
+        filterAndEvaluate("find Alice");
+        liveFilter.stop();
+        filterAndEvaluate("");
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void stop_personsChangedAfterResultShown_predicateOfResultApplied() {
+        filterAndEvaluate("find Meier");
+        liveFilter.stop();
+
+        // a command that keeps the filter, entered before the text was previewed again
+        model.addPerson(HOON);
+        Person editedBenson = new PersonBuilder(BENSON).withEmail("benson@example.com").build();
+        model.setPerson(BENSON, editedBenson);
+        assertEquals(List.of(editedBenson, DANIEL, HOON), model.getFilteredPersonList());
+    }
+
+    private void filterAndEvaluate(String commandText) {
+        liveFilter.filter(commandText);
+        while (!evaluations.isEmpty()) {
+            evaluations.remove().run();
+        }
+    }
+}
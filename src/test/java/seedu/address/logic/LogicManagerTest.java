@@ -5,14 +5,19 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,6 +26,7 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ProgressMonitor;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -41,6 +47,8 @@ public class LogicManagerTest {
     private static final String ADDRESS_BOOK_FILE = "addressBook.json";
     private static final String USER_PREFS_FILE = "userPrefs.json";
     private static final String EXCEPTION_USER_PREFS_FILE = "ExceptionUserPrefs.json";
+    private static final long LONG_SAVE_DELAY_MILLIS = 60_000;
+    private static final long FAILURE_TIMEOUT_SECONDS = 10;
 
     @TempDir
     public Path temporaryFolder;
@@ -79,17 +87,80 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+    public void execute_storageThrowsIoException_reportsSaveFailure() throws Exception {
+        assertSaveFailureReportedForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+    public void execute_storageThrowsAdException_reportsSaveFailure() throws Exception {
+        assertSaveFailureReportedForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        int[] saveCount = {0};
+        logic = new LogicManager(model, createStorageCountingSaves(saveCount, false));
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        logic.flushSaves();
+        assertEquals(0, saveCount[0]);
+    }
+
+    @Test
+    public void execute_burstOfChanges_savedOnce() throws Exception {
+        int[] saveCount = {0};
+        logic = new LogicManager(model, createStorageCountingSaves(saveCount, false), LONG_SAVE_DELAY_MILLIS);
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY);
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB);
+        assertEquals(0, saveCount[0]);
+
+        logic.flushSaves();
+        assertEquals(1, saveCount[0]);
+    }
+
+    @Test
+    public void flushSaves_saveFailedInBackground_retriesFailedSave() throws Exception {
+        int[] saveCount = {0};
+        CompletableFuture<String> failureMessage = new CompletableFuture<>();
+        logic = new LogicManager(model, createStorageCountingSaves(saveCount, true));
+        logic.setSaveFailureHandler(failureMessage::complete);
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY);
+        failureMessage.get(FAILURE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        logic.flushSaves();
+        assertEquals(1, saveCount[0]);
+    }
+
+    @Test
+    public void execute_modelChangeExecutorSet_changesMadeThroughExecutor() throws Exception {
+        int[] changeCount = {0};
+        logic.setModelChangeExecutor(change -> {
+            changeCount[0]++;
+            change.run();
+        });
+
+        // the persons shown are copied through the executor as each command starts, and its changes made after
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertEquals(2, changeCount[0]);
+        assertTrue(model.hasPerson(AMY));
+
+        assertCommandException("delete 9", String.format(
+                seedu.address.logic.commands.DeleteCommand.MESSAGE_INVALID_INDICES, "9"));
+        assertEquals(3, changeCount[0]);
+    }
+
+    @Test
+    public void execute_cancelled_throwsCommandException() {
+        model.addPerson(AMY);
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        ProgressMonitor monitor = new ProgressMonitor();
+        monitor.cancel();
+        assertThrows(CommandException.class, ProgressMonitor.MESSAGE_CANCELLED, () ->
+                logic.execute("delete 1", monitor));
+        assertEquals(expectedModel, model);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -148,13 +219,36 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    /**
+     * Returns a storage that counts the address book saves in {@code saveCount} instead of writing them.
+     * If {@code failFirstSave} is true, the first save throws an {@code IOException} and is not counted.
+     */
+    private StorageManager createStorageCountingSaves(int[] saveCount, boolean failFirstSave) {
+        boolean[] shouldFail = {failFirstSave};
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve(ADDRESS_BOOK_FILE)) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        if (shouldFail[0]) {
+                            shouldFail[0] = false;
+                            throw DUMMY_IO_EXCEPTION;
+                        }
+                        saveCount[0]++;
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve(USER_PREFS_FILE));
+        TemplateStorageManager templateStorage = new TemplateStorageManager(temporaryFolder.resolve("templates"));
+        return new StorageManager(addressBookStorage, userPrefsStorage, templateStorage);
+    }
+
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
      *
      * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * @param expectedMessage the message expected to be reported by the Logic component
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertSaveFailureReportedForExceptionFromStorage(IOException e, String expectedMessage)
+            throws Exception {
         Path prefPath = temporaryFolder.resolve(EXCEPTION_USER_PREFS_FILE);
 
         // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
@@ -172,14 +266,20 @@ public class LogicManagerTest {
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage, templateStorage);
 
         logic = new LogicManager(model, storage);
+        CompletableFuture<String> failureMessage = new CompletableFuture<>();
+        logic.setSaveFailureHandler(failureMessage::complete);
 
-        // Triggers the saveAddressBook method by executing an add command
+        // Triggers the saveAddressBook method by executing an add command, which succeeds without waiting for it
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
                 + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
         Person expectedPerson = new PersonBuilder(AMY).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertCommandSuccess(addCommand, String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(expectedPerson)),
+                expectedModel);
+
+        assertEquals(expectedMessage, failureMessage.get(FAILURE_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertThrows(IOException.class, () -> logic.flushSaves());
     }
 
     @Test
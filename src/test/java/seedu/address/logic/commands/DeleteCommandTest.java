@@ -11,6 +11,7 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -19,10 +20,12 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for
@@ -183,6 +186,34 @@ public class DeleteCommandTest {
                 -> deleteCommand.execute(model));
     }
 
+    @Test
+    public void execute_cancelled_nothingDeleted() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        ProgressMonitor monitor = new ProgressMonitor();
+        monitor.cancel();
+
+        DeleteCommand deleteCommand = new DeleteCommand(List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON));
+        assertThrows(CommandException.class, ProgressMonitor.MESSAGE_CANCELLED, ()
+                -> deleteCommand.execute(model, monitor));
+        assertEquals(new ModelManager(getTypicalAddressBook(), new UserPrefs()), model);
+    }
+
+    @Test
+    public void execute_manyIndices_progressReported() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        List<Index> indices = new ArrayList<>();
+        for (int i = 0; i < 2048; i++) {
+            addressBook.addPerson(new PersonBuilder().withPhone(String.valueOf(10000000 + i)).build());
+            indices.add(Index.fromZeroBased(i));
+        }
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        ProgressMonitor monitor = new ProgressMonitor();
+
+        new DeleteCommand(indices).execute(model, monitor);
+        assertEquals(1, monitor.getProgress());
+        assertTrue(model.getFilteredPersonList().isEmpty());
+    }
+
     @Test
     public void execute_multipleValidIndicesInFilteredList_success() {
         Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 
@@ -12,6 +13,8 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookUtil;
+import seedu.address.storage.SegmentedAddressBookStorage;
 
 public class ExportCommandTest {
 
@@ -46,6 +49,40 @@ public class ExportCommandTest {
         assertEquals(json, fake.getString());
     }
 
+    @Test
+    public void execute_binaryFileBesideJsonFile_copiesAddressBookAsJson() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.setAddressBookFilePath(Path.of("addressbook.json"));
+
+        FakeFileSystem fs = new FakeFileSystem() {
+            @Override
+            public boolean exists(Path path) {
+                return path.toString().endsWith(".bin");
+            }
+        };
+        FakeClipboard fake = new FakeClipboard();
+        new ExportCommand(fake, fs).execute(model);
+
+        assertEquals(getTypicalAddressBook(), JsonAddressBookUtil.readAddressBookFromJsonString(fake.getString()));
+    }
+
+    @Test
+    public void execute_segmentsBesideJsonFile_copiesAddressBookAsJson() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.setAddressBookFilePath(Path.of("addressbook.json"));
+
+        FakeFileSystem fs = new FakeFileSystem() {
+            @Override
+            public boolean exists(Path path) {
+                return path.endsWith(SegmentedAddressBookStorage.MANIFEST_FILE_NAME);
+            }
+        };
+        FakeClipboard fake = new FakeClipboard();
+        new ExportCommand(fake, fs).execute(model);
+
+        assertEquals(getTypicalAddressBook(), JsonAddressBookUtil.readAddressBookFromJsonString(fake.getString()));
+    }
+
     private static class FakeClipboard implements ClipboardProvider {
         private String value;
 
@@ -66,7 +103,8 @@ public class ExportCommandTest {
 
         @Override
         public boolean exists(Path path) {
-            return exists;
+            // only the json file itself exists, not the manifest of any segments beside it
+            return exists && path.getNameCount() == 1 && path.toString().endsWith(".json");
         }
 
         @Override
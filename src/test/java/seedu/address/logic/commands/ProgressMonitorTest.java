@@ -0,0 +1,42 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+
+public class ProgressMonitorTest {
+
+    @Test
+    public void checkCancelled() {
+        ProgressMonitor monitor = new ProgressMonitor();
+        assertFalse(monitor.isCancelled());
+        assertDoesNotThrow(monitor::checkCancelled);
+
+        monitor.cancel();
+        assertTrue(monitor.isCancelled());
+        assertThrows(CommandException.class, ProgressMonitor.MESSAGE_CANCELLED, monitor::checkCancelled);
+    }
+
+    @Test
+    public void setProgress() {
+        ProgressMonitor monitor = new ProgressMonitor();
+        assertEquals(ProgressMonitor.UNKNOWN_PROGRESS, monitor.getProgress());
+
+        monitor.setProgress(1, 4);
+        assertEquals(0.25, monitor.getProgress());
+
+        // more done than expected
+        monitor.setProgress(5, 4);
+        assertEquals(1, monitor.getProgress());
+
+        // nothing to do
+        monitor.setProgress(0, 0);
+        assertEquals(ProgressMonitor.UNKNOWN_PROGRESS, monitor.getProgress());
+    }
+}
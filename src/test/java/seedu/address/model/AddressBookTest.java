@@ -7,18 +7,23 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Status;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
 
@@ -78,6 +83,167 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getPersonsWithTag_personsAddedAndRemoved_reflectsCurrentPersons() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        assertEquals(Set.of(ALICE, BENSON), addressBook.getPersonsWithTag("friends"));
+        assertEquals(Set.of(BENSON), addressBook.getPersonsWithTag("OwesMoney"));
+
+        addressBook.removePerson(BENSON);
+        assertEquals(Set.of(ALICE), addressBook.getPersonsWithTag("friends"));
+        assertTrue(addressBook.getPersonsWithTag("owesmoney").isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithTag_personEdited_reflectsEditedTags() {
+        addressBook.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertTrue(addressBook.getPersonsWithTag("friends").isEmpty());
+        assertEquals(Set.of(editedAlice), addressBook.getPersonsWithTag(VALID_TAG_HUSBAND));
+    }
+
+    @Test
+    public void getPersonsWithTag_dataReset_reflectsNewData() {
+        addressBook.addPerson(BENSON);
+        addressBook.resetData(new AddressBookStub(Collections.singletonList(ALICE)));
+        assertEquals(Set.of(ALICE), addressBook.getPersonsWithTag("friends"));
+        assertTrue(addressBook.getPersonsWithTag("owesmoney").isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithStatus_afterAddAndEdit_returnsPersonsWithStatus() {
+        Person contactedBenson = new PersonBuilder(BENSON).withStatus("contacted").build();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(contactedBenson);
+        assertEquals(Set.of(ALICE), addressBook.getPersonsWithStatus(ALICE.getStatus()));
+        assertEquals(Set.of(contactedBenson), addressBook.getPersonsWithStatus(Status.CONTACTED));
+
+        Person contactedAlice = new PersonBuilder(ALICE).withStatus("contacted").build();
+        addressBook.setPerson(ALICE, contactedAlice);
+        assertTrue(addressBook.getPersonsWithStatus(ALICE.getStatus()).isEmpty());
+        assertEquals(Set.of(contactedAlice, contactedBenson), addressBook.getPersonsWithStatus(Status.CONTACTED));
+    }
+
+    @Test
+    public void getPersonsWithNameWord_afterAddAndEdit_returnsPersonsWithWord() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        assertEquals(Set.of(ALICE), addressBook.getPersonsWithNameWord("alice"));
+        assertEquals(Set.of(ALICE), addressBook.getPersonsWithNameWord(" PAULINE "));
+        assertTrue(addressBook.getPersonsWithNameWord("Alic").isEmpty());
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").build();
+        addressBook.setPerson(ALICE, renamedAlice);
+        assertTrue(addressBook.getPersonsWithNameWord("alice").isEmpty());
+        assertEquals(Set.of(renamedAlice), addressBook.getPersonsWithNameWord("alicia"));
+    }
+
+    @Test
+    public void getPersonsWithAddressTrigram_afterAddAndEdit_returnsPersonsWithTrigram() {
+        Person aliceInClementi = new PersonBuilder(ALICE).withAddress("Blk 1 Clementi Ave").build();
+        Person bensonInJurong = new PersonBuilder(BENSON).withAddress("Blk 2 Jurong West").build();
+        addressBook.addPerson(aliceInClementi);
+        addressBook.addPerson(bensonInJurong);
+        assertEquals(Set.of(aliceInClementi), addressBook.getPersonsWithAddressTrigram("cle"));
+        assertEquals(Set.of(aliceInClementi, bensonInJurong), addressBook.getPersonsWithAddressTrigram("blk"));
+
+        Person aliceInJurong = new PersonBuilder(ALICE).withAddress("Blk 3 Jurong East").build();
+        addressBook.setPerson(aliceInClementi, aliceInJurong);
+        assertTrue(addressBook.getPersonsWithAddressTrigram("cle").isEmpty());
+        assertEquals(Set.of(aliceInJurong, bensonInJurong), addressBook.getPersonsWithAddressTrigram("jur"));
+    }
+
+    @Test
+    public void getModificationCount_personListChanges_countChanges() {
+        long initialCount = addressBook.getModificationCount();
+        addressBook.addPerson(ALICE);
+        long countAfterAdd = addressBook.getModificationCount();
+        assertTrue(countAfterAdd != initialCount);
+
+        addressBook.hasPerson(ALICE);
+        assertEquals(countAfterAdd, addressBook.getModificationCount());
+
+        addressBook.removePerson(ALICE);
+        assertTrue(addressBook.getModificationCount() != countAfterAdd);
+    }
+
+    @Test
+    public void getPersonsWithTag_changedBeforeFirstLookup_indexesBuiltFromPersonList() {
+        AddressBook copy = new AddressBook(getTypicalAddressBook());
+        copy.removePerson(ALICE);
+        assertFalse(copy.isIndexed());
+        long modificationCount = copy.getModificationCount();
+
+        assertEquals(Set.of(BENSON, DANIEL), copy.getPersonsWithTag("friends"));
+        assertTrue(copy.isIndexed());
+        assertEquals(modificationCount, copy.getModificationCount());
+
+        // kept in step from then on
+        copy.removePerson(BENSON);
+        assertEquals(Set.of(DANIEL), copy.getPersonsWithTag("friends"));
+    }
+
+    @Test
+    public void batch_validMutations_indexesKeptInStep() {
+        AddressBook addressBook = getTypicalAddressBook();
+        assertEquals(Set.of(ALICE, BENSON, DANIEL), addressBook.getPersonsWithTag("friends"));
+
+        Person untaggedBenson = new PersonBuilder(BENSON).withTags().build();
+        addressBook.batch(book -> {
+            book.removePerson(ALICE);
+            book.setPerson(BENSON, untaggedBenson);
+            book.addPerson(new PersonBuilder(ALICE).withPhone("12345678").build());
+        });
+        assertEquals(2, addressBook.getPersonsWithTag("friends").size());
+        assertFalse(addressBook.getPersonsWithTag("friends").contains(ALICE));
+        assertTrue(addressBook.getPersonsWithTag("owesmoney").isEmpty());
+    }
+
+    @Test
+    public void getStatusCounts_tracksPersonList() {
+        assertEquals(StatusCounts.NONE, addressBook.getStatusCounts());
+
+        Person busyAlice = new PersonBuilder(ALICE).withStatus("busy").build();
+        Person busyBenson = new PersonBuilder(BENSON).withStatus("busy").build();
+        addressBook.addPerson(busyAlice);
+        addressBook.addPerson(busyBenson);
+        assertEquals(new StatusCounts(Map.of(Status.BUSY, 2)), addressBook.getStatusCounts());
+
+        addressBook.removePerson(busyAlice);
+        assertEquals(new StatusCounts(Map.of(Status.BUSY, 1)), addressBook.getStatusCounts());
+
+        addressBook.resetData(new AddressBook());
+        assertEquals(StatusCounts.NONE, addressBook.getStatusCounts());
+    }
+
+    @Test
+    public void getTagCounts_tracksPersonList() {
+        assertEquals(new TagCounts(Map.of("friends", StatusCounts.NONE), 0),
+                addressBook.getTagCounts(List.of("friends")));
+
+        // ALICE is tagged friends, BENSON owesmoney and friends
+        Person busyAlice = new PersonBuilder(ALICE).withStatus("busy").build();
+        addressBook.addPerson(busyAlice);
+        addressBook.addPerson(BENSON);
+        TagCounts counts = addressBook.getTagCounts(List.of("friends", "owesmoney"));
+        assertEquals(2, counts.getCount("friends"));
+        assertEquals(1, counts.getCount("friends", Status.BUSY));
+        assertEquals(1, counts.getCount("owesmoney"));
+        assertEquals(0, counts.getCount("owesmoney", Status.BUSY));
+        assertEquals(2, counts.getTagsInUseCount());
+
+        addressBook.setPerson(busyAlice, new PersonBuilder(ALICE).withStatus("rejected").withTags().build());
+        counts = addressBook.getTagCounts(List.of("friends"));
+        assertEquals(1, counts.getCount("friends"));
+        assertEquals(0, counts.getCount("friends", Status.BUSY));
+
+        addressBook.resetData(new AddressBook());
+        assertEquals(new TagCounts(Map.of("friends", StatusCounts.NONE), 0),
+                addressBook.getTagCounts(List.of("friends")));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -7,16 +7,23 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Status;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -88,6 +95,101 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void deletePersons_nullCollection_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.deletePersons(null));
+    }
+
+    @Test
+    public void deletePersons_personsInAddressBook_removesAllPersons() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.deletePersons(Arrays.asList(ALICE, BENSON));
+        assertFalse(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.hasPerson(BENSON));
+    }
+
+    @Test
+    public void batch_nullMutations_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.batch(null));
+    }
+
+    @Test
+    public void batch_validMutations_appliesAllMutations() {
+        modelManager.addPerson(ALICE);
+        modelManager.batch(addressBook -> {
+            addressBook.addPerson(BENSON);
+            addressBook.addPerson(CARL);
+            addressBook.removePerson(ALICE);
+        });
+        AddressBook expectedAddressBook = new AddressBookBuilder().withPerson(BENSON).withPerson(CARL).build();
+        assertEquals(expectedAddressBook, modelManager.getAddressBook());
+    }
+
+    @Test
+    public void batch_failingMutation_rollsBackAllMutations() {
+        modelManager.addPerson(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> modelManager.batch(addressBook -> {
+            addressBook.addPerson(BENSON);
+            addressBook.addPerson(ALICE);
+        }));
+        AddressBook expectedAddressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        assertEquals(expectedAddressBook, modelManager.getAddressBook());
+    }
+
+    @Test
+    public void addPerson_filterApplied_keepsFilter() {
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Carl")));
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        assertEquals(Arrays.asList(ALICE, CARL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void setPerson_filterApplied_keepsFilter() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Alice")));
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia").build();
+        modelManager.setPerson(ALICE, renamedAlice);
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+
+        modelManager.setPerson(renamedAlice, ALICE);
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void getStatusCountsProperty_personListChanges_updatesCounts() {
+        assertEquals(StatusCounts.NONE, modelManager.getStatusCountsProperty().get());
+
+        Person contactedAlice = new PersonBuilder(ALICE).withStatus("contacted").build();
+        modelManager.addPerson(contactedAlice);
+        assertEquals(new StatusCounts(Map.of(Status.CONTACTED, 1)), modelManager.getStatusCountsProperty().get());
+
+        modelManager.setPerson(contactedAlice, new PersonBuilder(ALICE).withStatus("rejected").build());
+        assertEquals(new StatusCounts(Map.of(Status.REJECTED, 1)), modelManager.getStatusCountsProperty().get());
+
+        modelManager.setAddressBook(new AddressBook());
+        assertEquals(StatusCounts.NONE, modelManager.getStatusCountsProperty().get());
+    }
+
+    @Test
+    public void getTagCountsProperty_personsOrTagsViewedChange_updatesCounts() {
+        assertEquals(TagCounts.NONE, modelManager.getTagCountsProperty().get());
+
+        modelManager.addPerson(ALICE);
+        assertEquals(1, modelManager.getTagCountsProperty().get().getTagsInUseCount());
+        assertEquals(0, modelManager.getTagCountsProperty().get().getCount("friends"));
+
+        modelManager.setTagsViewState(new TagsViewState(List.of("friends")));
+        assertEquals(1, modelManager.getTagCountsProperty().get().getCount("friends"));
+
+        modelManager.deletePerson(ALICE);
+        assertEquals(0, modelManager.getTagCountsProperty().get().getCount("friends"));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
@@ -0,0 +1,64 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Status;
+
+public class StatusCountsTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new StatusCounts(null));
+    }
+
+    @Test
+    public void getCount_missingStatus_returnsZero() {
+        StatusCounts counts = new StatusCounts(Map.of(Status.CONTACTED, 3));
+        assertEquals(3, counts.getCount(Status.CONTACTED));
+        assertEquals(0, counts.getCount(Status.BUSY));
+        assertEquals(0, StatusCounts.NONE.getCount(Status.UNCONTACTED));
+    }
+
+    @Test
+    public void getTotal_sumsAllStatuses() {
+        StatusCounts counts = new StatusCounts(Map.of(Status.CONTACTED, 3, Status.REJECTED, 2));
+        assertEquals(5, counts.getTotal());
+        assertEquals(0, StatusCounts.NONE.getTotal());
+    }
+
+    @Test
+    public void getDisplayText_listsEveryStatus() {
+        StatusCounts counts = new StatusCounts(Map.of(Status.CONTACTED, 1204, Status.BUSY, 1));
+        String expected = "Uncontacted: 0\nContacted: 1,204\nRejected: 0\nAccepted: 0\nUnreachable: 0\nBusy: 1";
+        assertEquals(expected, counts.getDisplayText());
+    }
+
+    @Test
+    public void equals() {
+        StatusCounts counts = new StatusCounts(Map.of(Status.CONTACTED, 3));
+
+        // same values -> returns true
+        assertTrue(counts.equals(new StatusCounts(Map.of(Status.CONTACTED, 3))));
+
+        // explicit zero count is the same as a missing count -> returns true
+        assertTrue(counts.equals(new StatusCounts(Map.of(Status.CONTACTED, 3, Status.BUSY, 0))));
+        assertEquals(counts.hashCode(), new StatusCounts(Map.of(Status.CONTACTED, 3, Status.BUSY, 0)).hashCode());
+
+        // same object -> returns true
+        assertTrue(counts.equals(counts));
+
+        // null -> returns false
+        assertFalse(counts.equals(null));
+
+        // different values -> returns false
+        assertFalse(counts.equals(new StatusCounts(Map.of(Status.CONTACTED, 4))));
+        assertFalse(counts.equals(StatusCounts.NONE));
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Status;
+
+public class TagCountsTest {
+
+    private final TagCounts counts = createCounts();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new TagCounts(null, 0));
+    }
+
+    @Test
+    public void getCount_tagCounted_returnsCount() {
+        assertEquals(3, counts.getCount("friends"));
+        assertEquals(2, counts.getCount("friends", Status.BUSY));
+        assertEquals(0, counts.getCount("friends", Status.REJECTED));
+        assertEquals(2, counts.getTagsInUseCount());
+    }
+
+    @Test
+    public void getCount_tagNotCounted_returnsZero() {
+        assertEquals(0, counts.getCount("colleagues"));
+        assertEquals(0, counts.getCount("colleagues", Status.BUSY));
+    }
+
+    @Test
+    public void getDisplayText() {
+        assertEquals("t:friends 3\nt:owesmoney 1", counts.getDisplayText(StatusViewState.ALL_STATUSES));
+        assertEquals("t:friends 3 | Busy: 2\nt:owesmoney 1 | Busy: 0",
+                counts.getDisplayText(new StatusViewState(Status.BUSY)));
+        assertEquals("Tags in use: 1,234", new TagCounts(Map.of(), 1234)
+                .getDisplayText(StatusViewState.ALL_STATUSES));
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(counts.equals(counts));
+        assertTrue(counts.equals(createCounts()));
+
+        assertFalse(counts.equals(null));
+        assertFalse(counts.equals(5));
+        assertFalse(counts.equals(new TagCounts(Map.of(), 2)));
+        assertFalse(counts.equals(TagCounts.NONE));
+    }
+
+    private static TagCounts createCounts() {
+        Map<String, StatusCounts> countsByTag = new LinkedHashMap<>();
+        countsByTag.put("friends", new StatusCounts(Map.of(Status.BUSY, 2, Status.CONTACTED, 1)));
+        countsByTag.put("owesmoney", new StatusCounts(Map.of(Status.CONTACTED, 1)));
+        return new TagCounts(countsByTag, 2);
+    }
+}
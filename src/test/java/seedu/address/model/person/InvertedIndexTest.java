@@ -0,0 +1,65 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class InvertedIndexTest {
+
+    private final InvertedIndex<String> index = new InvertedIndex<>(person -> person.getTags().stream()
+            .map(tag -> tag.tagName)
+            .collect(Collectors.toList()));
+
+    @Test
+    public void constructor_nullKeyFunction_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new InvertedIndex<String>(null));
+    }
+
+    @Test
+    public void add_personsWithSharedKey_filesUnderEachKey() {
+        index.add(ALICE);
+        index.add(BENSON);
+        assertEquals(Set.of(ALICE, BENSON), index.get("friends"));
+        assertEquals(Set.of(BENSON), index.get("owesmoney"));
+        assertEquals(2, index.count("friends"));
+        assertEquals(Set.of("friends", "owesmoney"), index.keys());
+    }
+
+    @Test
+    public void remove_lastPersonWithKey_dropsKey() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.remove(BENSON);
+        assertEquals(Set.of(ALICE), index.get("friends"));
+        assertEquals(0, index.count("owesmoney"));
+        assertEquals(Set.of("friends"), index.keys());
+    }
+
+    @Test
+    public void remove_equalButDifferentInstance_keepsIndexedInstance() {
+        index.add(ALICE);
+        index.remove(new PersonBuilder(ALICE).build());
+        assertEquals(Set.of(ALICE), index.get("friends"));
+    }
+
+    @Test
+    public void get_unknownKey_returnsEmptySet() {
+        assertTrue(index.get("unknown").isEmpty());
+    }
+
+    @Test
+    public void clear_removesAllPersons() {
+        index.add(ALICE);
+        index.clear();
+        assertTrue(index.keys().isEmpty());
+    }
+}
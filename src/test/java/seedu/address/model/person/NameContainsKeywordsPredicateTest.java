@@ -7,9 +7,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.AddressBook;
 import seedu.address.testutil.PersonBuilder;
 
 public class NameContainsKeywordsPredicateTest {
@@ -74,6 +76,49 @@ public class NameContainsKeywordsPredicateTest {
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
 
+    @Test
+    public void usingIndex_matchesIndexedPersonsWithNameWord() {
+        Person alice = new PersonBuilder().withName("Alice Pauline").withPhone("11111111").build();
+        Person bob = new PersonBuilder().withName("Bob Choo").withPhone("22222222").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(alice);
+        addressBook.addPerson(bob);
+
+        Predicate<Person> predicate = new NameContainsKeywordsPredicate(Arrays.asList("pAULINE", "Carol"))
+                .usingIndex(addressBook);
+        assertTrue(predicate.test(alice));
+        assertFalse(predicate.test(bob));
+
+        // partial words do not match
+        predicate = new NameContainsKeywordsPredicate(List.of("Pau")).usingIndex(addressBook);
+        assertFalse(predicate.test(alice));
+
+        // persons added after the predicate is created are matched
+        Person carol = new PersonBuilder().withName("Carol").withPhone("33333333").build();
+        predicate = new NameContainsKeywordsPredicate(List.of("carol")).usingIndex(addressBook);
+        addressBook.addPerson(carol);
+        assertTrue(predicate.test(carol));
+    }
+
+    @Test
+    public void refines() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("Alice"));
+
+        // same or more keywords -> returns true
+        assertTrue(predicate.refines(new NameContainsKeywordsPredicate(List.of("Alice"))));
+        assertTrue(predicate.refines(new NameContainsKeywordsPredicate(List.of("Bob", "Alice"))));
+
+        // keyword not in other predicate -> returns false
+        assertFalse(predicate.refines(new NameContainsKeywordsPredicate(List.of("Ali"))));
+        assertFalse(new NameContainsKeywordsPredicate(List.of("Alice", "Bob")).refines(predicate));
+
+        // no keywords -> returns false
+        assertFalse(new NameContainsKeywordsPredicate(List.of()).refines(predicate));
+
+        // different type -> returns false
+        assertFalse(predicate.refines(person -> true));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
@@ -0,0 +1,98 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelPersonScanTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(2);
+    // one person per task, so that the typical persons are split into several chunks
+    private final ParallelPersonScan scan = new ParallelPersonScan(pool, 1);
+    private final Predicate<Person> meierPredicate = person -> person.getName().fullName.contains("Meier");
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void isParallel_thresholdScalesWithParallelism() {
+        ParallelPersonScan largeTaskScan = new ParallelPersonScan(pool, 10);
+        assertFalse(largeTaskScan.isParallel(19));
+        assertTrue(largeTaskScan.isParallel(20));
+
+        ForkJoinPool singleWorkerPool = new ForkJoinPool(1);
+        assertFalse(new ParallelPersonScan(singleWorkerPool, 1).isParallel(Integer.MAX_VALUE));
+        singleWorkerPool.shutdown();
+    }
+
+    @Test
+    public void filter_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> scan.filter(null, meierPredicate));
+        assertThrows(NullPointerException.class, () -> scan.filter(getTypicalPersons(), null));
+    }
+
+    @Test
+    public void filter_parallel_matchesInOrder() {
+        List<Person> persons = getTypicalPersons();
+        List<Person> expected = persons.stream().filter(meierPredicate).collect(Collectors.toList());
+        assertEquals(List.of(BENSON, DANIEL), expected);
+
+        assertEquals(expected, scan.filter(persons, meierPredicate));
+        assertEquals(List.of(), scan.filter(persons, person -> false));
+        assertEquals(persons, scan.filter(persons, person -> true));
+    }
+
+    @Test
+    public void filter_sequential_matchesInOrder() {
+        ParallelPersonScan sequentialScan = new ParallelPersonScan(pool, getTypicalPersons().size());
+        assertFalse(sequentialScan.isParallel(getTypicalPersons().size()));
+        assertEquals(List.of(BENSON, DANIEL), sequentialScan.filter(getTypicalPersons(), meierPredicate));
+    }
+
+    @Test
+    public void findMatches_tooFewPersons_predicateReturned() {
+        AddressBook addressBook = getTypicalAddressBook();
+        ParallelPersonScan sequentialScan = new ParallelPersonScan(pool, addressBook.getPersonList().size());
+        assertSame(meierPredicate, sequentialScan.findMatches(addressBook.getPersonList(), meierPredicate,
+                addressBook));
+    }
+
+    @Test
+    public void findMatches_personsChanged_predicateChecked() {
+        AddressBook addressBook = getTypicalAddressBook();
+        Predicate<Person> predicate = scan.findMatches(addressBook.getPersonList(), meierPredicate, addressBook);
+        assertTrue(predicate.test(BENSON));
+        assertFalse(predicate.test(ALICE));
+
+        // an equal person that was not among the persons checked
+        Person bensonCopy = new PersonBuilder(BENSON).build();
+        assertFalse(predicate.test(bensonCopy));
+
+        // persons added after the scan are matched as well
+        addressBook.addPerson(HOON);
+        assertTrue(predicate.test(bensonCopy));
+        assertTrue(predicate.test(HOON));
+        assertFalse(predicate.test(ALICE));
+    }
+}
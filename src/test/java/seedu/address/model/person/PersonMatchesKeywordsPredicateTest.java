@@ -8,13 +8,49 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.AddressBook;
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonMatchesKeywordsPredicateTest {
 
+    @Test
+    public void refines() {
+        PersonMatchesKeywordsPredicate predicate = new PersonMatchesKeywordsPredicate(List.of("Alice"),
+                List.of("friend"), "contacted", "12345678", "alice@example.com", "chua chu kang");
+
+        // other predicate with the same or fewer filters, each as loose or looser -> returns true
+        assertTrue(predicate.refines(predicate));
+        assertTrue(predicate.refines(new PersonMatchesKeywordsPredicate(List.of(), List.of(), null, null, null,
+                null)));
+        assertTrue(predicate.refines(new PersonMatchesKeywordsPredicate(List.of("Bob", "Alice"),
+                List.of("friend", "colleague"), "contacted", "", null, "chu")));
+
+        // other predicate with a stricter or different filter -> returns false
+        assertFalse(predicate.refines(new PersonMatchesKeywordsPredicate(List.of("Bob"), List.of(), null, null,
+                null, null)));
+        assertFalse(predicate.refines(new PersonMatchesKeywordsPredicate(List.of(), List.of("colleague"), null,
+                null, null, null)));
+        assertFalse(predicate.refines(new PersonMatchesKeywordsPredicate(List.of(), List.of(), "uncontacted",
+                null, null, null)));
+        assertFalse(predicate.refines(new PersonMatchesKeywordsPredicate(List.of(), List.of(), null, "1234",
+                null, null)));
+        assertFalse(predicate.refines(new PersonMatchesKeywordsPredicate(List.of(), List.of(), null, null,
+                "bob@example.com", null)));
+        assertFalse(predicate.refines(new PersonMatchesKeywordsPredicate(List.of(), List.of(), null, null, null,
+                "chua chu kang avenue")));
+
+        // filter missing from this predicate -> returns false
+        assertFalse(new PersonMatchesKeywordsPredicate(List.of(), List.of(), null, null, null, null)
+                .refines(predicate));
+
+        // different type -> returns false
+        assertFalse(predicate.refines(new NameContainsKeywordsPredicate(List.of("Alice"))));
+    }
+
     @Test
     public void equals() {
         List<String> firstNameKeywords = Collections.singletonList("Alice");
@@ -188,6 +224,105 @@ public class PersonMatchesKeywordsPredicateTest {
                 .withTags("friend", "colleague").build()));
     }
 
+    @Test
+    public void usingIndex_tagKeywords_matchesIndexedPersonsWithTag() {
+        Person friend = new PersonBuilder().withName("Alice").withPhone("11111111").withTags("friend").build();
+        Person colleague = new PersonBuilder().withName("Bob").withPhone("22222222").withTags("colleague").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(friend);
+        addressBook.addPerson(colleague);
+
+        PersonMatchesKeywordsPredicate predicate = new PersonMatchesKeywordsPredicate(List.of(),
+                Arrays.asList("FRIEND", "enemy"), null, null, null, null);
+        Predicate<Person> indexedPredicate = predicate.usingIndex(addressBook);
+        assertTrue(indexedPredicate.test(friend));
+        assertFalse(indexedPredicate.test(colleague));
+
+        // tag matches but another field does not
+        predicate = new PersonMatchesKeywordsPredicate(List.of("Bob"), List.of("friend"), null, null, null, null);
+        assertFalse(predicate.usingIndex(addressBook).test(friend));
+    }
+
+    @Test
+    public void usingIndex_nameKeywords_matchesIndexedPersonsWithNameWord() {
+        Person alice = new PersonBuilder().withName("Alice Pauline").withPhone("11111111").withTags("friend").build();
+        Person bob = new PersonBuilder().withName("Bob Choo").withPhone("22222222").withTags("friend").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(alice);
+        addressBook.addPerson(bob);
+
+        Predicate<Person> predicate = new PersonMatchesKeywordsPredicate(List.of("alice", "carol"), List.of("friend"),
+                null, null, null, null).usingIndex(addressBook);
+        assertTrue(predicate.test(alice));
+        assertFalse(predicate.test(bob));
+    }
+
+    @Test
+    public void usingIndex_addressKeyword_matchesIndexedPersonsWithAddress() {
+        Person clementi = new PersonBuilder().withName("Alice").withPhone("11111111")
+                .withAddress("Blk 1 Clementi Ave").build();
+        Person jurong = new PersonBuilder().withName("Bob").withPhone("22222222")
+                .withAddress("Blk 2 Jurong West").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(clementi);
+        addressBook.addPerson(jurong);
+
+        Predicate<Person> predicate = new PersonMatchesKeywordsPredicate(List.of(), List.of(), null, null, null,
+                "CLEMENTI").usingIndex(addressBook);
+        assertTrue(predicate.test(clementi));
+        assertFalse(predicate.test(jurong));
+
+        // every trigram of the keyword is present but the keyword is not
+        predicate = new PersonMatchesKeywordsPredicate(List.of(), List.of(), null, null, null,
+                "ti ave clem").usingIndex(addressBook);
+        assertFalse(predicate.test(clementi));
+
+        // keyword shorter than a trigram
+        predicate = new PersonMatchesKeywordsPredicate(List.of("Bob"), List.of(), null, null, null,
+                "st").usingIndex(addressBook);
+        assertTrue(predicate.test(jurong));
+    }
+
+    @Test
+    public void usingIndex_statusGainedAfterCreation_matchesPerson() {
+        Person alice = new PersonBuilder().withName("Alice").withPhone("11111111").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(alice);
+
+        Predicate<Person> predicate = new PersonMatchesKeywordsPredicate(List.of(), List.of(), "busy",
+                null, null, null).usingIndex(addressBook);
+        Person busyAlice = new PersonBuilder(alice).withStatus("busy").build();
+        addressBook.setPerson(alice, busyAlice);
+        assertTrue(predicate.test(busyAlice));
+    }
+
+    @Test
+    public void usingIndex_noIndexedKeywords_returnsSamePredicate() {
+        PersonMatchesKeywordsPredicate predicate = new PersonMatchesKeywordsPredicate(List.of(), List.of(),
+                null, "11111111", null, null);
+        assertTrue(predicate == predicate.usingIndex(new AddressBook()));
+    }
+
+    @Test
+    public void usingIndex_statusKeyword_matchesIndexedPersonsWithStatus() {
+        Person contacted = new PersonBuilder().withName("Alice").withPhone("11111111").withStatus("contacted").build();
+        Person rejected = new PersonBuilder().withName("Bob").withPhone("22222222").withStatus("rejected").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(contacted);
+        addressBook.addPerson(rejected);
+
+        PersonMatchesKeywordsPredicate predicate = new PersonMatchesKeywordsPredicate(List.of(), List.of(),
+                "Contacted", null, null, null);
+        Predicate<Person> indexedPredicate = predicate.usingIndex(addressBook);
+        assertTrue(indexedPredicate.test(contacted));
+        assertFalse(indexedPredicate.test(rejected));
+
+        // unknown status matches nobody, as without the index
+        predicate = new PersonMatchesKeywordsPredicate(List.of(), List.of(), "friend", null, null, null);
+        assertFalse(predicate.usingIndex(addressBook).test(contacted));
+        assertFalse(predicate.usingIndex(addressBook).test(rejected));
+    }
+
     @Test
     public void test_statusMatches_returnsTrue() {
         // Exact status match
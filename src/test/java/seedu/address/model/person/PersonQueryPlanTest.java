@@ -0,0 +1,119 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonQueryPlanTest {
+
+    private final Person alice = new PersonBuilder().withName("Alice  Pauline").withPhone("11111111")
+            .withAddress("Blk 1 Clementi Ave").withStatus("contacted").withTags("friend").build();
+    private final Person bob = new PersonBuilder().withName("Bob Choo").withPhone("22222222")
+            .withAddress("Blk 2 Jurong West").withStatus("contacted").withTags("friend", "colleague").build();
+
+    @Test
+    public void test_nameKeywords_matchesWholeWordsIgnoringCase() {
+        PersonQueryPlan plan = new PersonQueryPlan(List.of(" PAULINE "), List.of(), null, null, null, null);
+        assertTrue(plan.test(alice));
+        assertFalse(plan.test(bob));
+
+        plan = new PersonQueryPlan(List.of("Paul", "Choo Bob"), List.of(), null, null, null, null);
+        assertFalse(plan.test(alice));
+        assertFalse(plan.test(bob));
+    }
+
+    @Test
+    public void test_allFiltersMustMatch() {
+        PersonQueryPlan plan = new PersonQueryPlan(List.of("bob"), List.of("colleague"), "Contacted", "22222222",
+                null, "jurong");
+        assertTrue(plan.test(bob));
+        assertFalse(plan.test(alice));
+
+        plan = new PersonQueryPlan(List.of("bob"), List.of("colleague"), "Busy", null, null, null);
+        assertFalse(plan.test(bob));
+    }
+
+    @Test
+    public void bindTo_noIndexedFilters_returnsSamePlan() {
+        PersonQueryPlan plan = new PersonQueryPlan(List.of(), List.of(), null, "11111111", null, "Av");
+        assertFalse(plan.canUseIndex());
+        assertSame(plan, plan.bindTo(new AddressBook()));
+    }
+
+    @Test
+    public void bindTo_indexedFilters_matchesSamePersonsAsPlan() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(alice);
+        addressBook.addPerson(bob);
+
+        PersonQueryPlan plan = new PersonQueryPlan(List.of("alice", "bob"), List.of("friend"), "contacted", null,
+                null, "clementi");
+        Predicate<Person> boundPlan = plan.bindTo(addressBook);
+        assertTrue(boundPlan.test(alice));
+        assertFalse(boundPlan.test(bob));
+
+        // unindexed filters are still checked on candidates
+        plan = new PersonQueryPlan(List.of("alice", "bob"), List.of(), null, "22222222", null, null);
+        boundPlan = plan.bindTo(addressBook);
+        assertFalse(boundPlan.test(alice));
+        assertTrue(boundPlan.test(bob));
+    }
+
+    @Test
+    public void bindTo_charactersFoldedByCaseMapping_matchesSamePersonsAsPlan() {
+        // a dotless i and a long s are equal to I and S ignoring case, but are not the lower case forms of them
+        Person aisha = new PersonBuilder(alice).withName("A\u0131\u017Fha Tan").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(aisha);
+        addressBook.addPerson(bob);
+
+        for (PersonQueryPlan plan : List.of(
+                new PersonQueryPlan(List.of("AISHA"), List.of(), null, null, null, null),
+                new PersonQueryPlan(List.of("aisha"), List.of(), null, null, null, null),
+                new PersonQueryPlan(List.of(), List.of("fr\u0131end"), null, null, null, null))) {
+            assertTrue(plan.test(aisha));
+            assertTrue(plan.bindTo(addressBook).test(aisha));
+        }
+    }
+
+    @Test
+    public void bindTo_indexChangesAfterBinding_candidatesRefreshed() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(alice);
+
+        Predicate<Person> boundPlan = new PersonQueryPlan(List.of("bob"), List.of(), null, null, null, null)
+                .bindTo(addressBook);
+        assertFalse(boundPlan.test(alice));
+
+        addressBook.addPerson(bob);
+        assertTrue(boundPlan.test(bob));
+
+        Person renamedBob = new PersonBuilder(bob).withName("Robert Choo").build();
+        addressBook.setPerson(bob, renamedBob);
+        assertFalse(boundPlan.test(renamedBob));
+    }
+
+    @Test
+    public void bindTo_keyEmptiedAndFilledAgain_candidatesLookedUpAgain() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(bob);
+        Predicate<Person> boundPlan = new PersonQueryPlan(List.of(), List.of("colleague", "family"), "contacted",
+                null, null, null).bindTo(addressBook);
+        assertTrue(boundPlan.test(bob));
+
+        // the postings of the tag are dropped when no one has it, and a new set is made for the next person with it
+        addressBook.removePerson(bob);
+        Person otherColleague = new PersonBuilder(alice).withTags("colleague").build();
+        addressBook.addPerson(otherColleague);
+        assertTrue(boundPlan.test(otherColleague));
+        assertFalse(boundPlan.test(bob));
+    }
+}
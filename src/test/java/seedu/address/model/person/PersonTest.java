@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -12,6 +13,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.testutil.PersonBuilder;
@@ -24,6 +27,14 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void getSortedTagNames_unsortedTags_sortedAndCached() {
+        Person person = new PersonBuilder().withTags("zebra", "apple", "mango").build();
+        assertEquals(List.of("apple", "mango", "zebra"), person.getSortedTagNames());
+        assertSame(person.getSortedTagNames(), person.getSortedTagNames());
+        assertThrows(UnsupportedOperationException.class, () -> person.getSortedTagNames().remove(0));
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
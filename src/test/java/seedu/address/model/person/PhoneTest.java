@@ -1,9 +1,12 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class PhoneTest {
@@ -42,6 +45,14 @@ public class PhoneTest {
         assertTrue(Phone.isValidPhone("+6512345678")); // with plus sign
     }
 
+    @Test
+    public void isValidPhone_sameAsValidationRegex() {
+        for (String test : List.of("", "+", "+1", "+12", "+123", "12", "123", "1+23", "123+", "/12", "12:",
+                "\u0661\u0662\u0663", "１２３", "123 ", "-123", "00000000000000000000")) {
+            assertEquals(test.matches(Phone.VALIDATION_REGEX), Phone.isValidPhone(test), test);
+        }
+    }
+
     @Test
     public void equals() {
         Phone phone = new Phone("999");
@@ -0,0 +1,57 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class StatusTagCounterTest {
+
+    private final StatusTagCounter counter = new StatusTagCounter();
+
+    @Test
+    public void count_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> counter.count(null, "friends"));
+        assertThrows(NullPointerException.class, () -> counter.count(Status.BUSY, null));
+    }
+
+    @Test
+    public void add_personsWithTags_countedByStatusAndTag() {
+        counter.add(ALICE);
+        counter.add(BENSON);
+        counter.add(new PersonBuilder(ALICE).withStatus("busy").build());
+
+        assertEquals(2, counter.count(ALICE.getStatus(), "friends"));
+        assertEquals(1, counter.count(ALICE.getStatus(), "owesmoney"));
+        assertEquals(1, counter.count(Status.BUSY, "friends"));
+        assertEquals(0, counter.count(Status.BUSY, "owesmoney"));
+        assertEquals(0, counter.count(ALICE.getStatus(), "colleagues"));
+    }
+
+    @Test
+    public void remove_countedPerson_noLongerCounted() {
+        counter.add(ALICE);
+        counter.add(BENSON);
+        counter.remove(ALICE);
+        assertEquals(1, counter.count(ALICE.getStatus(), "friends"));
+
+        counter.remove(BENSON);
+        assertEquals(0, counter.count(ALICE.getStatus(), "friends"));
+        assertEquals(0, counter.count(ALICE.getStatus(), "owesmoney"));
+
+        // counting again after the counts dropped to zero
+        counter.add(BENSON);
+        assertEquals(1, counter.count(ALICE.getStatus(), "friends"));
+    }
+
+    @Test
+    public void clear_personsCounted_noneCounted() {
+        counter.add(ALICE);
+        counter.clear();
+        assertEquals(0, counter.count(ALICE.getStatus(), "friends"));
+    }
+}
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 /**
@@ -28,6 +30,17 @@ public class StatusTest {
         assertFalse(Status.isValidStatus(""));
         assertFalse(Status.isValidStatus("         "));
         assertFalse(Status.isValidStatus("friend"));
+        assertFalse(Status.isValidStatus("bus"));
+        assertFalse(Status.isValidStatus("busyy"));
+        assertFalse(Status.isValidStatus("bu sy"));
+        assertFalse(Status.isValidStatus("\u00A0busy")); // not trimmed by String.trim
+    }
+
+    @Test
+    public void isValidStatus_whitespaceAndNull_validAsParsed() {
+        assertTrue(Status.isValidStatus("\tbusy\n"));
+        assertTrue(Status.isValidStatus(null));
+        assertEquals(Status.BUSY, Status.fromStringIgnoreCase("\tbusy\n"));
     }
 
     @Test
@@ -46,6 +59,10 @@ public class StatusTest {
         assertThrows(IllegalArgumentException.class, () -> Status.fromStringIgnoreCase(""));
         assertThrows(IllegalArgumentException.class, () -> Status.fromStringIgnoreCase("       "));
     }
-}
-
 
+    @Test
+    public void values_returnsAllStatusesInDisplayOrder() {
+        assertEquals(List.of(Status.UNCONTACTED, Status.CONTACTED, Status.REJECTED, Status.ACCEPTED,
+                Status.UNREACHABLE, Status.BUSY), Status.values());
+    }
+}
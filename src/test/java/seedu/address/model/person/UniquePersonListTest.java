@@ -7,14 +7,21 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -102,6 +109,14 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_oldIdentityNoLongerContained() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -127,6 +142,134 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_existingPerson_identityNoLongerContained() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void remove_personBeforeOthers_laterPersonsStillFound() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.setPerson(CARL, BOB);
+        uniquePersonList.remove(BENSON);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void remove_personsInAscendingOrderAfterInsertions_allPersonsStillFound() {
+        List<Person> persons = getTypicalPersons();
+        uniquePersonList.setPersons(persons);
+        // undoing the failed batch inserts the removed persons back, moving the persons after them
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.batch(() -> {
+            uniquePersonList.remove(persons.get(0));
+            uniquePersonList.remove(persons.get(2));
+            uniquePersonList.add(persons.get(1));
+        }));
+
+        List<Person> expectedPersons = new ArrayList<>(persons);
+        for (int i = 1; i < persons.size(); i += 2) {
+            uniquePersonList.remove(persons.get(i));
+            expectedPersons.remove(persons.get(i));
+        }
+        for (Person person : expectedPersons) {
+            Person editedPerson = new PersonBuilder(person).withAddress(VALID_ADDRESS_BOB).build();
+            uniquePersonList.setPerson(person, editedPerson);
+            uniquePersonList.setPerson(editedPerson, person);
+        }
+        assertEquals(expectedPersons, uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
+    @Test
+    public void removeAll_nullCollection_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.removeAll(null));
+    }
+
+    @Test
+    public void removeAll_nullPerson_throwsNullPointerExceptionAndLeavesListUnchanged() {
+        uniquePersonList.add(ALICE);
+        assertThrows(NullPointerException.class, () -> uniquePersonList.removeAll(Arrays.asList(ALICE, null)));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_personDoesNotExist_throwsPersonNotFoundExceptionAndLeavesListUnchanged() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(Arrays.asList(ALICE, CARL)));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        expectedUniquePersonList.add(BENSON);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void removeAll_existingPersons_removesPersonsAndKeepsOrder() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(BOB);
+        uniquePersonList.removeAll(Arrays.asList(BOB, BENSON));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        expectedUniquePersonList.add(CARL);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(BENSON));
+        uniquePersonList.remove(CARL);
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_existingPersons_onlyRemovalsReported() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, BOB));
+        List<List<Person>> removedPersons = new ArrayList<>();
+        List<Integer> addedSizes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            List<Person> removed = new ArrayList<>();
+            int addedSize = 0;
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+                addedSize += change.getAddedSize();
+            }
+            removedPersons.add(removed);
+            addedSizes.add(addedSize);
+        });
+
+        uniquePersonList.removeAll(Arrays.asList(BOB, BENSON));
+        assertEquals(List.of(List.of(BENSON, BOB)), removedPersons);
+        assertEquals(List.of(0), addedSizes);
+    }
+
+    @Test
+    public void removeAll_failingBatch_personsPutBack() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, BOB));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.batch(() -> {
+            uniquePersonList.removeAll(Arrays.asList(BOB, ALICE, CARL));
+            uniquePersonList.add(BENSON);
+        }));
+        assertEquals(List.of(ALICE, BENSON, CARL, BOB), uniquePersonList.asUnmodifiableObservableList());
+
+        // the positions of the persons are restored as well
+        uniquePersonList.remove(BOB);
+        uniquePersonList.setPerson(CARL, HOON);
+        assertEquals(List.of(ALICE, BENSON, HOON), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +305,78 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_largeListWithDuplicateAtEnd_throwsDuplicatePersonException() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            persons.add(new PersonBuilder().withPhone(String.valueOf(10_000_000 + i)).build());
+        }
+        uniquePersonList.setPersons(persons);
+        assertTrue(uniquePersonList.contains(persons.get(persons.size() - 1)));
+
+        persons.add(new PersonBuilder().withPhone(String.valueOf(10_000_000)).build());
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(persons));
+    }
+
+    @Test
+    public void batch_nullMutations_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.batch(null));
+    }
+
+    @Test
+    public void batch_validMutations_listenersNotifiedOnce() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        List<Integer> changeSizes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            int size = 0;
+            while (change.next()) {
+                size += change.getRemovedSize() + change.getAddedSize();
+            }
+            changeSizes.add(size);
+        });
+
+        uniquePersonList.batch(() -> {
+            uniquePersonList.remove(CARL);
+            uniquePersonList.add(BOB);
+        });
+        assertEquals(List.of(ALICE, BENSON, BOB), uniquePersonList.asUnmodifiableObservableList());
+        // only the persons removed and added are reported, not the whole list
+        assertEquals(List.of(2), changeSizes);
+    }
+
+    @Test
+    public void batch_failingMutation_changesUndone() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        Person editedBenson = new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.batch(() -> {
+            uniquePersonList.remove(ALICE);
+            uniquePersonList.setPerson(BENSON, editedBenson);
+            uniquePersonList.add(BOB);
+            uniquePersonList.remove(CARL);
+            uniquePersonList.add(BOB);
+        }));
+        assertEquals(List.of(ALICE, BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+
+        // the positions of the persons are restored as well
+        uniquePersonList.remove(BENSON);
+        uniquePersonList.setPerson(CARL, BOB);
+        assertEquals(List.of(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(CARL));
+    }
+
+    @Test
+    public void batch_nestedBatchFails_onlyNestedChangesUndone() {
+        uniquePersonList.batch(() -> {
+            uniquePersonList.add(ALICE);
+            assertThrows(DuplicatePersonException.class, () -> uniquePersonList.batch(() -> {
+                uniquePersonList.add(BENSON);
+                uniquePersonList.add(ALICE);
+            }));
+            uniquePersonList.add(CARL);
+        });
+        assertEquals(List.of(ALICE, CARL), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
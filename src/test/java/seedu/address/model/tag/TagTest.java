@@ -1,7 +1,12 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class TagTest {
@@ -21,6 +26,26 @@ public class TagTest {
     public void isValidTagName() {
         // null tag name
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
+
+        // invalid tag names
+        assertFalse(Tag.isValidTagName("")); // empty string
+        assertFalse(Tag.isValidTagName("Friends")); // uppercase
+        assertFalse(Tag.isValidTagName("best friend")); // spaces
+        assertFalse(Tag.isValidTagName("#friend")); // symbols
+        assertFalse(Tag.isValidTagName("a".repeat(51))); // too long
+
+        // valid tag names
+        assertTrue(Tag.isValidTagName("friends"));
+        assertTrue(Tag.isValidTagName("2024"));
+        assertTrue(Tag.isValidTagName("a".repeat(50)));
+    }
+
+    @Test
+    public void isValidTagName_sameAsValidationRegex() {
+        for (String test : List.of("", "a", "z9", "0", "a_b", "a-b", "é", "`", "{", "/", ":", "A", "Z",
+                "a".repeat(50), "a".repeat(51), "ab ", "\u0661")) {
+            assertEquals(test.matches(Tag.VALIDATION_REGEX), Tag.isValidTagName(test), test);
+        }
     }
 
 }
@@ -0,0 +1,139 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getBinaryFilePath_jsonFile_extensionReplaced() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("addressbook")));
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> createStorage().readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_noFiles_emptyResult() throws Exception {
+        assertFalse(createStorage().readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_smallerThanJson() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+        Path jsonFilePath = testFolder.resolve("other.json");
+        new JsonAddressBookStorage(jsonFilePath, false).saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(Files.size(storage.getAddressBookFilePath()) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readAddressBook_thenSave_fileReplaced() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+        ReadOnlyAddressBook addressBook = storage.readAddressBook().get();
+
+        // nothing left open by the read stops the file from being replaced
+        AddressBook changed = new AddressBook(addressBook);
+        changed.addPerson(HOON);
+        storage.saveAddressBook(changed);
+        assertEquals(changed, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_noBinaryFile_readsJsonFile() throws Exception {
+        new JsonAddressBookStorage(jsonFilePath()).saveAddressBook(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook(), createStorage().readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_corruptFile_throwsDataLoadingException() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+        Path filePath = storage.getAddressBookFilePath();
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFile_throwsDataLoadingException() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        Files.writeString(storage.getAddressBookFilePath(), "{\"persons\": []}");
+
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void convertToJsonIfNewer_binaryFileNewer_converted() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(jsonFilePath());
+        jsonStorage.saveAddressBook(new AddressBook());
+        Files.setLastModifiedTime(jsonFilePath(), FileTime.fromMillis(0));
+        createStorage().saveAddressBook(getTypicalAddressBook());
+
+        BinaryAddressBookStorage.convertToJsonIfNewer(jsonStorage);
+        assertEquals(getTypicalAddressBook(), jsonStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void convertToJsonIfNewer_jsonFileNewer_notConverted() throws Exception {
+        createStorage().saveAddressBook(getTypicalAddressBook());
+        Files.setLastModifiedTime(BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath()), FileTime.fromMillis(0));
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(jsonFilePath());
+        jsonStorage.saveAddressBook(new AddressBook());
+
+        BinaryAddressBookStorage.convertToJsonIfNewer(jsonStorage);
+        assertEquals(new AddressBook(), jsonStorage.readAddressBook().get());
+    }
+
+    private Path jsonFilePath() {
+        return testFolder.resolve("addressbook.json");
+    }
+
+    private BinaryAddressBookStorage createStorage() {
+        return new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath()),
+                jsonFilePath());
+    }
+}
@@ -0,0 +1,256 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Status;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    private static final String TEMP_FILE = "TempAddressBook.json";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(testFolder.resolve(TEMP_FILE));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalAddressBookStorage(testFolder.resolve(TEMP_FILE)).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_plainJsonFile_success() throws Exception {
+        Path filePath = testFolder.resolve(TEMP_FILE);
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook(), readFreshly(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve(TEMP_FILE);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+
+        // add, edit and delete
+        original.addPerson(HOON);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withStatus(Status.CONTACTED.name()).build());
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(3, journalLines(filePath).size());
+        assertEquals(original, readFreshly(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_journalUnchanged() throws Exception {
+        Path filePath = testFolder.resolve(TEMP_FILE);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+        assertEquals(1, journalLines(filePath).size());
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_appendsToJournal() throws Exception {
+        Path filePath = testFolder.resolve(TEMP_FILE);
+        new JournalAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(2, journalLines(filePath).size());
+        assertEquals(addressBook, readFreshly(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compacted() throws Exception {
+        Path filePath = testFolder.resolve(TEMP_FILE);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 0, true);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        // editing the same person over and over grows the journal until it is larger than the snapshot
+        int saveCount = 1;
+        Person alice = ALICE;
+        while (saveCount < 100) {
+            Person editedAlice = new PersonBuilder(alice).withAddress("Street " + saveCount).build();
+            original.setPerson(alice, editedAlice);
+            alice = editedAlice;
+            storage.saveAddressBook(original);
+            if (journalLines(filePath).size() == 1) {
+                break;
+            }
+            saveCount++;
+        }
+
+        assertTrue(saveCount > 1 && saveCount < 100);
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, readFreshly(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_personsReordered_compacted() throws Exception {
+        Path filePath = testFolder.resolve(TEMP_FILE);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        List<Person> reversed = new ArrayList<>(original.getPersonList());
+        Collections.reverse(reversed);
+        original.setPersons(reversed);
+        storage.saveAddressBook(original);
+
+        assertEquals(1, journalLines(filePath).size());
+        assertEquals(original, readFreshly(filePath));
+    }
+
+    @Test
+    public void readAddressBook_journalOfOlderSnapshot_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve(TEMP_FILE);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        List<String> oldJournal = journalLines(filePath);
+
+        // a compaction that wrote the new snapshot but not the new journal
+        new JournalAddressBookStorage(filePath).saveAddressBook(original);
+        Files.write(JournalAddressBookStorage.getJournalFilePath(filePath), oldJournal);
+
+        assertEquals(original, readFreshly(filePath));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_entryIgnored() throws Exception {
+        Path filePath = testFolder.resolve(TEMP_FILE);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        Files.writeString(JournalAddressBookStorage.getJournalFilePath(filePath), "{\"removedIndices\":[0",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        JournalAddressBookStorage reopenedStorage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(reopenedStorage.readAddressBook().get());
+        assertEquals(original, addressBook);
+
+        // the incomplete entry is not built upon
+        addressBook.addPerson(HOON);
+        reopenedStorage.saveAddressBook(addressBook);
+        assertEquals(addressBook, readFreshly(filePath));
+    }
+
+    @Test
+    public void readAddressBook_invalidEntryBeforeLast_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve(TEMP_FILE);
+        new JournalAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Files.writeString(JournalAddressBookStorage.getJournalFilePath(filePath), "not json\n{}\n",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> readFreshly(filePath));
+    }
+
+    @Test
+    public void readAddressBook_entryWithInvalidIndex_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve(TEMP_FILE);
+        new JournalAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Files.writeString(JournalAddressBookStorage.getJournalFilePath(filePath), "{\"removedIndices\":[100]}\n",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> readFreshly(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_snapshotWritten() throws Exception {
+        Path otherFilePath = testFolder.resolve("Other.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(testFolder.resolve(TEMP_FILE));
+        storage.saveAddressBook(getTypicalAddressBook(), otherFilePath);
+
+        assertTrue(Files.exists(otherFilePath));
+        assertEquals(getTypicalAddressBook(), readFreshly(otherFilePath));
+    }
+
+    @Test
+    public void convertJournal_journalPresent_changesSavedInOtherFormatAndJournalDeleted() throws Exception {
+        Path filePath = testFolder.resolve(TEMP_FILE);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(
+                BinaryAddressBookStorage.getBinaryFilePath(filePath), filePath);
+        JournalAddressBookStorage.convertJournal(filePath, binaryStorage);
+        assertEquals(addressBook, binaryStorage.readAddressBook().get());
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+
+        // the json format reads the snapshot alone, which is rewritten with the journaled changes
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(filePath);
+        storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.saveAddressBook(addressBook);
+        JournalAddressBookStorage.convertJournal(filePath, jsonStorage);
+        assertEquals(addressBook, jsonStorage.readAddressBook().get());
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+    }
+
+    @Test
+    public void convertJournal_noJournal_nothingSaved() throws Exception {
+        Path filePath = testFolder.resolve(TEMP_FILE);
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Path binaryFilePath = BinaryAddressBookStorage.getBinaryFilePath(filePath);
+
+        JournalAddressBookStorage.convertJournal(filePath, new BinaryAddressBookStorage(binaryFilePath, filePath));
+        assertFalse(Files.exists(binaryFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(testFolder.resolve(TEMP_FILE));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    private ReadOnlyAddressBook readFreshly(Path filePath) throws Exception {
+        return new JournalAddressBookStorage(filePath).readAddressBook().get();
+    }
+
+    private List<String> journalLines(Path filePath) throws Exception {
+        return Files.readAllLines(JournalAddressBookStorage.getJournalFilePath(filePath));
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+
+public class JsonAdaptedJournalEntryTest {
+
+    @Test
+    public void between_samePersons_emptyEntry() {
+        List<Person> persons = List.of(ALICE, BENSON);
+        assertTrue(JsonAdaptedJournalEntry.between(persons, List.copyOf(persons)).get().isEmpty());
+    }
+
+    @Test
+    public void between_personsReordered_returnsEmptyOptional() {
+        assertFalse(JsonAdaptedJournalEntry.between(List.of(ALICE, BENSON), List.of(BENSON, ALICE)).isPresent());
+    }
+
+    @Test
+    public void applyTo_entryBetweenLists_producesNewList() throws Exception {
+        List<Person> oldPersons = List.of(ALICE, BENSON, CARL, DANIEL);
+        List<Person> newPersons = List.of(HOON, BENSON, IDA, DANIEL);
+        JsonAdaptedJournalEntry entry = JsonAdaptedJournalEntry.between(oldPersons, newPersons).get();
+
+        // survives a round trip through json
+        entry = JsonUtil.fromJsonString(JsonUtil.toCompactJsonString(entry), JsonAdaptedJournalEntry.class);
+        List<Person> persons = new ArrayList<>(oldPersons);
+        entry.applyTo(persons);
+        assertEquals(newPersons, persons);
+    }
+
+    @Test
+    public void applyTo_invalidRemovedIndex_throwsIllegalValueException() {
+        JsonAdaptedJournalEntry entry = new JsonAdaptedJournalEntry(List.of(2), null);
+        assertThrows(IllegalValueException.class, () -> entry.applyTo(new ArrayList<>(List.of(ALICE, BENSON))));
+    }
+
+    @Test
+    public void applyTo_insertionWithoutPerson_throwsIllegalValueException() {
+        JsonAdaptedJournalEntry entry = new JsonAdaptedJournalEntry(null,
+                List.of(new JsonAdaptedJournalEntry.JsonAdaptedInsertion(0, null)));
+        assertThrows(IllegalValueException.class, () -> entry.applyTo(new ArrayList<>()));
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonAdaptedPersonConverterTest {
+
+    @Test
+    public void toAddressBook_manyPersons_allInOrder() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            persons.add(new PersonBuilder().withPhone(String.valueOf(10000000 + i)).build());
+        }
+        AddressBook expected = new AddressBook();
+        expected.setPersons(persons);
+
+        assertEquals(expected, JsonAdaptedPersonConverter.toAddressBook(adapt(persons)));
+    }
+
+    @Test
+    public void toAddressBook_invalidAndDuplicatePersons_allReportedInOrder() {
+        List<JsonAdaptedPerson> adaptedPersons = adapt(List.of(ALICE, BENSON, CARL));
+        adaptedPersons.add(1, invalidName(BENSON));
+        adaptedPersons.add(new JsonAdaptedPerson(ALICE));
+        adaptedPersons.add(invalidEmail(CARL));
+
+        String expectedMessage = String.format(JsonAdaptedPersonConverter.MESSAGE_INVALID_PERSON, 2,
+                Name.MESSAGE_CONSTRAINTS) + "\n"
+                + String.format(JsonAdaptedPersonConverter.MESSAGE_INVALID_PERSON, 5,
+                        JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON) + "\n"
+                + String.format(JsonAdaptedPersonConverter.MESSAGE_INVALID_PERSON, 6, Email.MESSAGE_CONSTRAINTS);
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                JsonAdaptedPersonConverter.toAddressBook(adaptedPersons));
+    }
+
+    @Test
+    public void getAddressBook_duplicateInLaterBatch_reportedWithPosition() {
+        JsonAdaptedPersonConverter converter = new JsonAdaptedPersonConverter();
+        converter.convert(adapt(getTypicalPersons()));
+        converter.convert(adapt(List.of(BENSON)));
+
+        assertThrows(IllegalValueException.class, String.format(JsonAdaptedPersonConverter.MESSAGE_INVALID_PERSON,
+                getTypicalPersons().size() + 1, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON),
+                converter::getAddressBook);
+    }
+
+    @Test
+    public void getAddressBook_manyInvalidPersons_listingCapped() {
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        for (int i = 0; i < JsonAdaptedPersonConverter.MAX_REPORTED_ERRORS + 3; i++) {
+            adaptedPersons.add(invalidName(ALICE));
+        }
+        StringBuilder expectedMessage = new StringBuilder();
+        for (int i = 1; i <= JsonAdaptedPersonConverter.MAX_REPORTED_ERRORS; i++) {
+            expectedMessage.append(String.format(JsonAdaptedPersonConverter.MESSAGE_INVALID_PERSON, i,
+                    Name.MESSAGE_CONSTRAINTS)).append('\n');
+        }
+        expectedMessage.append(String.format(JsonAdaptedPersonConverter.MESSAGE_MORE_INVALID_PERSONS, 3));
+
+        assertThrows(IllegalValueException.class, expectedMessage.toString(), () ->
+                JsonAdaptedPersonConverter.toAddressBook(adaptedPersons));
+    }
+
+    @Test
+    public void getAddressBook_invalidPersonsInManyBatches_lowestPositionsListed() {
+        JsonAdaptedPersonConverter converter = new JsonAdaptedPersonConverter();
+        int batchCount = JsonAdaptedPersonConverter.MAX_REPORTED_ERRORS * 2;
+        for (int i = 0; i < batchCount; i++) {
+            converter.convert(List.of(invalidName(ALICE)));
+        }
+        StringBuilder expectedMessage = new StringBuilder();
+        for (int i = 1; i <= JsonAdaptedPersonConverter.MAX_REPORTED_ERRORS; i++) {
+            expectedMessage.append(String.format(JsonAdaptedPersonConverter.MESSAGE_INVALID_PERSON, i,
+                    Name.MESSAGE_CONSTRAINTS)).append('\n');
+        }
+        expectedMessage.append(String.format(JsonAdaptedPersonConverter.MESSAGE_MORE_INVALID_PERSONS,
+                batchCount - JsonAdaptedPersonConverter.MAX_REPORTED_ERRORS));
+
+        assertThrows(IllegalValueException.class, expectedMessage.toString(), converter::getAddressBook);
+    }
+
+    private static List<JsonAdaptedPerson> adapt(List<Person> persons) {
+        return persons.stream().map(JsonAdaptedPerson::new).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private static JsonAdaptedPerson invalidName(Person person) {
+        return new JsonAdaptedPerson("R@chel", person.getPhone().value, person.getEmail().value,
+                person.getAddress().value, new ArrayList<>(), person.getStatusText());
+    }
+
+    private static JsonAdaptedPerson invalidEmail(Person person) {
+        return new JsonAdaptedPerson(person.getName().fullName, person.getPhone().value, "example.com",
+                person.getAddress().value, new ArrayList<>(), person.getStatusText());
+    }
+}
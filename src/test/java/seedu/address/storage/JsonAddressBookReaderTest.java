@@ -0,0 +1,74 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        assertEquals(TypicalPersons.getTypicalAddressBook(), JsonAddressBookReader.read(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookReader.read(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, String.format(JsonAdaptedPersonConverter.MESSAGE_INVALID_PERSON,
+                2, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON), () ->
+                JsonAddressBookReader.read(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void read_unknownFieldsAndNoPersons_emptyAddressBook() throws Exception {
+        assertEquals(new AddressBook(), read("{\"version\": {\"major\": 1}, \"tags\": [1, 2]}"));
+        assertEquals(new AddressBook(), read("{\"persons\": null}"));
+    }
+
+    @Test
+    public void read_notAnAddressBook_throwsIoException() {
+        assertThrows(IOException.class, () -> read("[]"));
+        assertThrows(IOException.class, () -> read("{\"persons\": {}}"));
+        assertThrows(IOException.class, () -> read("{\"persons\": [1]}"));
+        assertThrows(IOException.class, () -> read("{\"persons\": ["));
+    }
+
+    @Test
+    public void read_inputStream_leftOpen() throws Exception {
+        boolean[] isClosed = {false};
+        InputStream in = new ByteArrayInputStream("{\"persons\": []}\n".getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() {
+                isClosed[0] = true;
+            }
+        };
+        assertEquals(new AddressBook(), JsonAddressBookReader.read(in));
+        assertFalse(isClosed[0]);
+    }
+
+    private AddressBook read(String json) throws Exception {
+        return JsonAddressBookReader.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
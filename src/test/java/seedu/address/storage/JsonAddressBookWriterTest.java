@@ -0,0 +1,49 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+public class JsonAddressBookWriterTest {
+
+    @Test
+    public void write_prettyPrinted_sameAsJsonSerializableAddressBook() throws Exception {
+        String expected = JsonUtil.toJsonString(new JsonSerializableAddressBook(getTypicalAddressBook()));
+        assertEquals(expected, write(getTypicalAddressBook(), true));
+    }
+
+    @Test
+    public void write_notPrettyPrinted_sameAsCompactJsonSerializableAddressBook() throws Exception {
+        String written = write(getTypicalAddressBook(), false);
+        assertEquals(JsonUtil.toCompactJsonString(new JsonSerializableAddressBook(getTypicalAddressBook())), written);
+        assertFalse(written.contains("\n"));
+    }
+
+    @Test
+    public void write_thenRead_sameAddressBook() throws Exception {
+        String written = write(getTypicalAddressBook(), false);
+        AddressBook read = JsonAddressBookReader.read(
+                new ByteArrayInputStream(written.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(getTypicalAddressBook(), read);
+    }
+
+    @Test
+    public void write_emptyAddressBook_emptyPersons() throws Exception {
+        assertEquals("{\"persons\":[]}", write(new AddressBook(), false));
+    }
+
+    private String write(AddressBook addressBook, boolean isPrettyPrinted) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonAddressBookWriter.write(addressBook, out, isPrettyPrinted);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,209 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class SegmentedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nonPositiveSegmentCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> createStorage(0));
+    }
+
+    @Test
+    public void getManifestFilePath_jsonFile_inSegmentsDirectory() {
+        assertEquals(Paths.get("data", "addressbook.segments", "manifest.json"),
+                SegmentedAddressBookStorage.getManifestFilePath(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> createStorage(4).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_noFiles_emptyResult() throws Exception {
+        assertFalse(createStorage(4).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        SegmentedAddressBookStorage storage = createStorage(4);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(createStorage(4).readAddressBook().get()));
+
+        // inserted between persons already saved
+        original.removePerson(ALICE);
+        original.setPersons(Stream.concat(Stream.of(HOON), original.getPersonList().stream())
+                .collect(Collectors.toList()));
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(createStorage(4).readAddressBook().get()));
+
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), new AddressBook(createStorage(4).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_onePersonEdited_onlyItsSegmentRewritten() throws Exception {
+        SegmentedAddressBookStorage storage = createStorage(16);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        Set<Path> segmentFiles = listSegmentFiles();
+
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withName("Benson Edited").build());
+        storage.saveAddressBook(addressBook);
+        Set<Path> rewritten = listSegmentFiles();
+        rewritten.removeAll(segmentFiles);
+
+        assertEquals(1, rewritten.size());
+        assertEquals(segmentFiles.size(), listSegmentFiles().size());
+        assertEquals(addressBook, new AddressBook(createStorage(16).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_onlyChangedSegmentsRewritten() throws Exception {
+        createStorage(16).saveAddressBook(getTypicalAddressBook());
+        Set<Path> segmentFiles = listSegmentFiles();
+
+        SegmentedAddressBookStorage storage = createStorage(16);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        Set<Path> rewritten = listSegmentFiles();
+        rewritten.removeAll(segmentFiles);
+
+        assertEquals(1, rewritten.size());
+        assertEquals(addressBook, new AddressBook(createStorage(16).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_segmentCountChanged_success() throws Exception {
+        createStorage(16).saveAddressBook(getTypicalAddressBook());
+
+        SegmentedAddressBookStorage storage = createStorage(2);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        assertEquals(getTypicalAddressBook(), addressBook);
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, new AddressBook(createStorage(2).readAddressBook().get()));
+        assertEquals(2, listSegmentFiles().size());
+    }
+
+    @Test
+    public void readAddressBook_noManifest_readsJsonFile() throws Exception {
+        new JsonAddressBookStorage(jsonFilePath()).saveAddressBook(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook(), createStorage(4).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_missingSegment_throwsDataLoadingException() throws Exception {
+        SegmentedAddressBookStorage storage = createStorage(4);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.delete(listSegmentFiles().iterator().next());
+
+        assertThrows(DataLoadingException.class, () -> createStorage(4).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersons_throwsDataLoadingException() throws Exception {
+        SegmentedAddressBookStorage storage = createStorage(1);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Path segmentFile = listSegmentFiles().iterator().next();
+        String segment = Files.readString(segmentFile);
+        Files.writeString(segmentFile, segment.replace("\"phone\":\"98765432\"", "\"phone\":\"94351253\""));
+
+        assertThrows(DataLoadingException.class, () -> createStorage(1).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersonsInDifferentSegments_throwsDataLoadingException() throws Exception {
+        createStorage(2).saveAddressBook(getTypicalAddressBook());
+        List<Path> segmentFiles = new ArrayList<>(listSegmentFiles());
+        segmentFiles.sort(Comparator.comparingLong(this::sizeOf).reversed());
+        Files.copy(segmentFiles.get(0), segmentFiles.get(1), StandardCopyOption.REPLACE_EXISTING);
+
+        assertThrows(DataLoadingException.class, () -> createStorage(2).readAddressBook());
+    }
+
+    @Test
+    public void convertToJsonIfNewer_segmentsNewer_converted() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(jsonFilePath());
+        jsonStorage.saveAddressBook(new AddressBook());
+        Files.setLastModifiedTime(jsonFilePath(), FileTime.fromMillis(0));
+        createStorage(4).saveAddressBook(getTypicalAddressBook());
+
+        SegmentedAddressBookStorage.convertToJsonIfNewer(jsonStorage);
+        assertEquals(getTypicalAddressBook(), jsonStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void convertToJsonIfNewer_jsonFileNewer_notConverted() throws Exception {
+        createStorage(4).saveAddressBook(getTypicalAddressBook());
+        Files.setLastModifiedTime(SegmentedAddressBookStorage.getManifestFilePath(jsonFilePath()),
+                FileTime.fromMillis(0));
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(jsonFilePath());
+        jsonStorage.saveAddressBook(new AddressBook());
+
+        SegmentedAddressBookStorage.convertToJsonIfNewer(jsonStorage);
+        assertEquals(new AddressBook(), jsonStorage.readAddressBook().get());
+    }
+
+    private Set<Path> listSegmentFiles() throws IOException {
+        Path directory = SegmentedAddressBookStorage.getManifestFilePath(jsonFilePath()).getParent();
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("segment-"))
+                    .collect(Collectors.toCollection(HashSet::new));
+        }
+    }
+
+    private long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path jsonFilePath() {
+        return testFolder.resolve("addressbook.json");
+    }
+
+    private SegmentedAddressBookStorage createStorage(int segmentCount) {
+        return new SegmentedAddressBookStorage(SegmentedAddressBookStorage.getManifestFilePath(jsonFilePath()),
+                jsonFilePath(), segmentCount);
+    }
+}
@@ -0,0 +1,138 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindAddressBookSaverTest {
+
+    private static final long LONG_SAVE_DELAY_MILLIS = 60_000;
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindAddressBookSaver(null, 0));
+    }
+
+    @Test
+    public void save_nullAddressBook_throwsNullPointerException() {
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(new RecordingStorage(), 0);
+        assertThrows(NullPointerException.class, () -> saver.save(null));
+    }
+
+    @Test
+    public void save_burstOfSaves_writesLatestDataOnce() throws Exception {
+        RecordingStorage storage = new RecordingStorage();
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage, LONG_SAVE_DELAY_MILLIS);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        saver.save(addressBook);
+        addressBook.addPerson(BENSON);
+        saver.save(addressBook);
+        assertEquals(0, storage.saved.size());
+
+        saver.flush();
+        assertEquals(1, storage.saved.size());
+        assertEquals(List.of(ALICE, BENSON), storage.saved.get(0).getPersonList());
+
+        // nothing left to write
+        saver.flush();
+        assertEquals(1, storage.saved.size());
+    }
+
+    @Test
+    public void save_addressBookChangedAfterSave_writesDataAtTimeOfSave() throws Exception {
+        RecordingStorage storage = new RecordingStorage();
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage, LONG_SAVE_DELAY_MILLIS);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        saver.save(addressBook);
+        addressBook.removePerson(ALICE);
+
+        saver.flush();
+        assertEquals(List.of(ALICE), storage.saved.get(0).getPersonList());
+    }
+
+    @Test
+    public void save_noDelay_writesInBackground() throws Exception {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json"));
+        CompletableFuture<ReadOnlyAddressBook> saved = new CompletableFuture<>();
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(new RecordingStorage() {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                storage.saveAddressBook(addressBook);
+                saved.complete(addressBook);
+            }
+        }, 0);
+        saver.save(getTypicalAddressBook());
+
+        saved.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void flush_saveFailedInBackground_writesFailedDataAgain() throws Exception {
+        CompletableFuture<IOException> failure = new CompletableFuture<>();
+        RecordingStorage storage = new RecordingStorage();
+        storage.failuresLeft = 1;
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage, 0);
+        saver.setFailureHandler(failure::complete);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        saver.save(addressBook);
+        failure.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        saver.flush();
+        assertEquals(1, storage.saved.size());
+        assertEquals(List.of(ALICE), storage.saved.get(0).getPersonList());
+    }
+
+    @Test
+    public void flush_storageThrowsIoException_throwsIoException() {
+        RecordingStorage storage = new RecordingStorage();
+        storage.failuresLeft = 1;
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage, LONG_SAVE_DELAY_MILLIS);
+        saver.save(new AddressBook());
+        assertThrows(IOException.class, saver::flush);
+    }
+
+    /**
+     * An {@code AddressBookStorage} that records the address books saved instead of writing them,
+     * after failing the first {@code failuresLeft} saves.
+     */
+    private static class RecordingStorage extends JsonAddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        private int failuresLeft;
+
+        RecordingStorage() {
+            super(Path.of("unused.json"));
+        }
+
+        @Override
+        public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new IOException("dummy IO exception");
+            }
+            saved.add(addressBook);
+        }
+    }
+}